@@ -0,0 +1,71 @@
+package com.kwezal.bearinmind.translation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Generates payloads of realistic sizes for benchmarks.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkPayloads {
+
+    public static final String APPLICATION_LOCALE = "en";
+
+    /**
+     * Generates distinct locales, the first of which is the application locale.
+     *
+     * @param count number of locales
+     * @return list of locales
+     */
+    public static List<String> locales(final int count) {
+        final var locales = new ArrayList<String>(count);
+        locales.add(APPLICATION_LOCALE);
+        for (int i = 0; locales.size() < count; i++) {
+            final var locale = new String(new char[] { (char) ('a' + i / 26 % 26), (char) ('a' + i % 26) });
+            if (!APPLICATION_LOCALE.equals(locale)) {
+                locales.add(locale);
+            }
+        }
+        return locales;
+    }
+
+    public static List<String> fields(final int count) {
+        final var fields = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            fields.add("field" + i);
+        }
+        return fields;
+    }
+
+    public static Map<String, Integer> fieldIdentifiers(final List<String> fields) {
+        final var fieldIdentifiers = new HashMap<String, Integer>();
+        for (int i = 0; i < fields.size(); i++) {
+            fieldIdentifiers.put(fields.get(i), i + 1);
+        }
+        return fieldIdentifiers;
+    }
+
+    /**
+     * Generates a mapping of locale to field texts with all fields defined in all locales.
+     *
+     * @param locales locales
+     * @param fields  field names
+     * @return mapping of locale to field texts
+     */
+    public static Map<String, Map<String, String>> localeFieldTexts(final List<String> locales, final List<String> fields) {
+        final var localeFieldTexts = new LinkedHashMap<String, Map<String, String>>();
+        for (final var locale : locales) {
+            final var fieldTexts = new LinkedHashMap<String, String>();
+            for (final var field : fields) {
+                fieldTexts.put(field, "Text of the " + field + " field in the " + locale + " locale");
+            }
+            localeFieldTexts.put(locale, fieldTexts);
+        }
+        return localeFieldTexts;
+    }
+}
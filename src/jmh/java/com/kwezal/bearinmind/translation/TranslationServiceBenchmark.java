@@ -0,0 +1,114 @@
+package com.kwezal.bearinmind.translation;
+
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * End-to-end translation lookups against a containerised PostgreSQL database seeded with a catalog of a given size.
+ * Every translation exists in the application locale and every other one also in the {@code pl} locale,
+ * so half of the non-default locale lookups fall back to the application locale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TranslationServiceBenchmark {
+
+    private static final String CLEANUP_SCRIPT = "com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql";
+    private static final String NON_DEFAULT_LOCALE = "pl";
+
+    @Param({ "10000", "100000" })
+    private int catalogSize;
+
+    @Param({ "50" })
+    private int batchSize;
+
+    @Param({ "false", "true" })
+    private boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private TranslationService translationService;
+    private int[] identifiers;
+
+    @Setup
+    public void setUp() {
+        context =
+            new SpringApplicationBuilder(BearInMindTranslationsApplication.class)
+                .properties(Map.of("application.translation.cache.enabled", cacheEnabled))
+                .run();
+        translationService = context.getBean(TranslationService.class);
+
+        final var dataSource = context.getBean(DataSource.class);
+        new ResourceDatabasePopulator(new ClassPathResource(CLEANUP_SCRIPT)).execute(dataSource);
+
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update(
+            """
+            INSERT INTO translations (identifier, locale, text)
+            SELECT nextval('translations_identifier_seq'), ?, 'Text ' || g
+            FROM generate_series(1, ?) g""",
+            BenchmarkPayloads.APPLICATION_LOCALE,
+            catalogSize
+        );
+        jdbcTemplate.update(
+            """
+            INSERT INTO translations (identifier, locale, text)
+            SELECT t.identifier, ?, 'Tekst ' || t.identifier
+            FROM translations t
+            WHERE t.identifier > 1000000 AND t.identifier % 2 = 0""",
+            NON_DEFAULT_LOCALE
+        );
+        jdbcTemplate.execute("ANALYZE translations");
+        identifiers =
+            jdbcTemplate
+                .queryForList(
+                    "SELECT identifier FROM translations WHERE identifier > 1000000 AND locale = ?",
+                    Integer.class,
+                    BenchmarkPayloads.APPLICATION_LOCALE
+                )
+                .stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        new ResourceDatabasePopulator(new ClassPathResource(CLEANUP_SCRIPT)).execute(context.getBean(DataSource.class));
+        context.close();
+    }
+
+    @Benchmark
+    public String findTextInDefaultLocale() {
+        return translationService.findTextByIdentifierAndLocale(randomIdentifier(), BenchmarkPayloads.APPLICATION_LOCALE);
+    }
+
+    @Benchmark
+    public String findTextInNonDefaultLocale() {
+        return translationService.findTextByIdentifierAndLocale(randomIdentifier(), NON_DEFAULT_LOCALE);
+    }
+
+    @Benchmark
+    public Map<Integer, String> findTextsInNonDefaultLocale() {
+        final var batch = new ArrayList<Integer>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(randomIdentifier());
+        }
+        return translationService.findAllIdentifierAndTextByIdentifiersAndLocale(batch, NON_DEFAULT_LOCALE);
+    }
+
+    private int randomIdentifier() {
+        return identifiers[ThreadLocalRandom.current().nextInt(identifiers.length)];
+    }
+}
@@ -0,0 +1,39 @@
+package com.kwezal.bearinmind.translation.autocomplete;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationPrefixIndexBenchmark {
+
+    private static final String[] WORDS = { "introduction", "advanced", "photosynthesis", "algebra", "history", "physics" };
+
+    @Param({ "10000", "1000000" })
+    private int textCount;
+
+    private TranslationPrefixIndex index;
+
+    @Setup
+    public void setUp() {
+        final var random = new Random(0);
+        index = new TranslationPrefixIndex();
+        for (int identifier = 1; identifier <= textCount; identifier++) {
+            index.put(
+                identifier,
+                WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + identifier
+            );
+        }
+    }
+
+    @Benchmark
+    public List<Integer> findByPrefix() {
+        return index.findByPrefix("Photosynthesis al", 10);
+    }
+}
@@ -0,0 +1,63 @@
+package com.kwezal.bearinmind.translation.mapper;
+
+import static com.kwezal.bearinmind.translation.BenchmarkPayloads.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationMatrix;
+import com.kwezal.bearinmind.translation.model.Translation;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationMapperBenchmark {
+
+    @Param({ "10", "50" })
+    private int fieldCount;
+
+    @Param({ "5", "40" })
+    private int localeCount;
+
+    private TranslationMapper translationMapper;
+    private Map<String, Map<String, String>> localeFieldTexts;
+    private Map<String, String> fieldTexts;
+    private Map<String, Integer> fieldIdentifiers;
+    private Map<String, String> localeTexts;
+
+    @Setup
+    public void setUp() {
+        final var fields = fields(fieldCount);
+        translationMapper = new TranslationMapperImpl();
+        localeFieldTexts = localeFieldTexts(locales(localeCount), fields);
+        fieldTexts = localeFieldTexts.get(APPLICATION_LOCALE);
+        fieldIdentifiers = fieldIdentifiers(fields);
+        localeTexts = new HashMap<>();
+        localeFieldTexts.forEach((locale, texts) -> localeTexts.put(locale, texts.get(fields.get(0))));
+    }
+
+    @Benchmark
+    public List<Translation> mapLocaleFieldTexts() {
+        return translationMapper.map(localeFieldTexts, fieldIdentifiers);
+    }
+
+    @Benchmark
+    public List<Translation> mapMatrix() {
+        return translationMapper.map(TranslationMatrix.of(localeFieldTexts), fieldIdentifiers, APPLICATION_LOCALE);
+    }
+
+    @Benchmark
+    public List<Translation> mapFieldTexts() {
+        return translationMapper.map(fieldTexts, fieldIdentifiers, APPLICATION_LOCALE);
+    }
+
+    @Benchmark
+    public List<Translation> mapLocaleTexts() {
+        return translationMapper.map(localeTexts, 1);
+    }
+}
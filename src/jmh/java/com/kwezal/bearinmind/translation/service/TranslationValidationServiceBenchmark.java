@@ -0,0 +1,73 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static com.kwezal.bearinmind.translation.BenchmarkPayloads.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationMatrix;
+import com.kwezal.bearinmind.translation.schema.TranslationFieldSchema;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationValidationServiceBenchmark {
+
+    @Param({ "10", "50" })
+    private int fieldCount;
+
+    @Param({ "5", "40" })
+    private int localeCount;
+
+    private TranslationValidationService translationValidationService;
+    private TranslationMatrix localeFieldTexts;
+    private int localeIndex;
+    private Set<String> requiredFields;
+    private Set<String> optionalFields;
+    private TranslationFieldSchema schema;
+
+    @Setup
+    public void setUp() {
+        final var fields = fields(fieldCount);
+        translationValidationService = new TranslationValidationService();
+        localeFieldTexts = TranslationMatrix.of(localeFieldTexts(locales(localeCount), fields));
+        localeIndex = localeFieldTexts.localeIndex(APPLICATION_LOCALE);
+        requiredFields = new HashSet<>(fields.subList(0, fieldCount / 2));
+        optionalFields = new HashSet<>(fields.subList(fieldCount / 2, fieldCount));
+        schema = TranslationFieldSchema.compile("benchmark", requiredFields, optionalFields);
+    }
+
+    @Benchmark
+    public int validateIfTranslationsInLocaleExist() {
+        return translationValidationService.validateIfTranslationsInLocaleExist(localeFieldTexts, APPLICATION_LOCALE);
+    }
+
+    @Benchmark
+    public void validateIfTranslationsHaveRequiredFields() {
+        translationValidationService.validateIfTranslationsHaveRequiredFields(localeFieldTexts, localeIndex, requiredFields);
+    }
+
+    @Benchmark
+    public void validateIfTranslationsContainOnlyExpectedFields() {
+        translationValidationService.validateIfTranslationsContainOnlyExpectedFields(
+            localeFieldTexts,
+            localeIndex,
+            requiredFields,
+            optionalFields
+        );
+    }
+
+    @Benchmark
+    public int validateFieldSchema() {
+        return translationValidationService.validateFieldSchema(schema, localeFieldTexts, APPLICATION_LOCALE);
+    }
+
+    @Benchmark
+    public void validateIfFieldIsNotDefinedIfNotPresentInLocale() {
+        translationValidationService.validateIfFieldIsNotDefinedIfNotPresentInLocale(localeFieldTexts, localeIndex);
+    }
+}
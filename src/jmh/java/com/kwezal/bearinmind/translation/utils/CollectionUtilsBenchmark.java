@@ -0,0 +1,34 @@
+package com.kwezal.bearinmind.translation.utils;
+
+import static com.kwezal.bearinmind.translation.BenchmarkPayloads.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilsBenchmark {
+
+    @Param({ "10", "50" })
+    private int fieldCount;
+
+    @Param({ "5", "40" })
+    private int localeCount;
+
+    private Map<String, Map<String, String>> localeFieldTexts;
+
+    @Setup
+    public void setUp() {
+        localeFieldTexts = localeFieldTexts(locales(localeCount), fields(fieldCount));
+    }
+
+    @Benchmark
+    public Map<String, Map<String, String>> swapMapKeys() {
+        return CollectionUtils.swapMapKeys(localeFieldTexts);
+    }
+}
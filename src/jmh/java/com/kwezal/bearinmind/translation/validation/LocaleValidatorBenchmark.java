@@ -0,0 +1,31 @@
+package com.kwezal.bearinmind.translation.validation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocaleValidatorBenchmark {
+
+    private static final String[] LOCALES = { "en", "pl", "enUS", "ptBR", "EN", "e", "en-US", "", "english" };
+
+    private LocaleValidator localeValidator;
+
+    @Setup
+    public void setUp() {
+        localeValidator = new LocaleValidator();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(9)
+    public void isValid(final Blackhole blackhole) {
+        for (final var locale : LOCALES) {
+            blackhole.consume(localeValidator.isValid(locale, null));
+        }
+    }
+}
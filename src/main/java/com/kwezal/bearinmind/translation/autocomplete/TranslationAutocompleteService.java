@@ -0,0 +1,164 @@
+package com.kwezal.bearinmind.translation.autocomplete;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.service.TranslationChangeListener;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+/**
+ * Finds translations by a prefix of their text in memory, e.g. for autocompletion of translated names.
+ * <p>
+ * Texts resolved for each configured locale, i.e. with the application locale fallback applied, are loaded on startup.
+ * Texts longer than a configured length are not indexed.
+ * The index is updated after changes made through the {@link TranslationService} of the same application instance
+ * have been committed, on a background thread, so it may briefly return outdated results.
+ */
+@Slf4j
+@Service
+@ConditionalOnExpression(
+    "${application.translation.autocomplete.enabled:false} and !${application.translation.tenancy.enabled:false}"
+)
+public class TranslationAutocompleteService implements TranslationChangeListener, SmartLifecycle {
+
+    private final TranslationService translationService;
+    private final Set<String> locales;
+    private final int maxTextLength;
+
+    private volatile Map<String, TranslationPrefixIndex> localeIndexes = Map.of();
+
+    private final Set<Integer> changedIdentifiers = new HashSet<>();
+    private ExecutorService executor;
+
+    public TranslationAutocompleteService(
+        final TranslationService translationService,
+        @Value("${application.translation.autocomplete.locales:${application.locale}}") final Set<String> locales,
+        @Value("${application.translation.autocomplete.max-text-length:200}") final int maxTextLength
+    ) {
+        this.translationService = translationService;
+        this.locales = Set.copyOf(locales);
+        this.maxTextLength = maxTextLength;
+    }
+
+    /**
+     * Finds translations whose text in a given locale starts with a given prefix,
+     * ignoring case, diacritics and repeated whitespace.
+     *
+     * @param prefix text prefix
+     * @param locale indexed locale
+     * @param limit  maximum number of returned identifiers
+     * @return translation identifiers ordered by text
+     * @throws IllegalArgumentException if a given locale is not indexed
+     */
+    public List<Integer> findIdentifiersByPrefix(final String prefix, final String locale, final int limit) {
+        final var index = localeIndexes.get(locale);
+        if (isNull(index)) {
+            throw new IllegalArgumentException("Locale " + locale + " is not indexed for autocompletion");
+        }
+
+        return index.findByPrefix(prefix, limit);
+    }
+
+    @Override
+    public synchronized void start() {
+        final var indexes = new HashMap<String, TranslationPrefixIndex>();
+        locales.forEach(locale -> {
+            final var index = new TranslationPrefixIndex();
+            translationService
+                .findAllIdentifierAndTextByLocale(locale)
+                .forEach((identifier, text) -> put(index, identifier, text));
+            indexes.put(locale, index);
+            log.info("Indexed {} translations in locale {} for autocompletion", index.size(), locale);
+        });
+        localeIndexes = Map.copyOf(indexes);
+        executor =
+            Executors.newSingleThreadExecutor(runnable -> {
+                final var thread = new Thread(runnable, "translation-autocomplete-updater");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        changedIdentifiers.clear();
+        localeIndexes = Map.of();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !localeIndexes.isEmpty();
+    }
+
+    /**
+     * Queues changed translations to have their texts reloaded in all indexed locales.
+     * Queued changes are applied one batch at a time on a single thread, and each batch reads texts committed
+     * after its changes were queued, so that concurrent notifications cannot apply outdated texts.
+     *
+     * @param identifiers identifiers of translations created, updated or deleted in any locale
+     */
+    @Override
+    public synchronized void onTranslationsChanged(final Set<Integer> identifiers) {
+        if (isNull(executor)) {
+            return;
+        }
+
+        // A batch is already waiting for the thread unless the queue is empty
+        final var isBatchQueued = !changedIdentifiers.isEmpty();
+        changedIdentifiers.addAll(identifiers);
+        if (!isBatchQueued) {
+            executor.execute(this::applyChanges);
+        }
+    }
+
+    private void applyChanges() {
+        final Set<Integer> identifiers;
+        synchronized (this) {
+            identifiers = Set.copyOf(changedIdentifiers);
+            changedIdentifiers.clear();
+        }
+
+        try {
+            localeIndexes.forEach((locale, index) -> {
+                final var identifierTexts = translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
+                    identifiers,
+                    locale
+                );
+                identifiers.forEach(identifier -> {
+                    final var text = identifierTexts.get(identifier);
+                    if (isNull(text)) {
+                        index.remove(identifier);
+                    } else {
+                        put(index, identifier, text);
+                    }
+                });
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not update autocompletion of translations {}", identifiers, e);
+        }
+    }
+
+    private void put(final TranslationPrefixIndex index, final Integer identifier, final String text) {
+        if (text.length() > maxTextLength) {
+            index.remove(identifier);
+        } else {
+            index.put(identifier, text);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.kwezal.bearinmind.translation.autocomplete;
+
+import static java.util.Objects.nonNull;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Texts of a single locale, sorted by their normalised form, for finding translations whose text starts with a prefix.
+ * Texts are normalised by removing diacritics, converting to lower case and collapsing whitespace.
+ * <p>
+ * Lookups can run concurrently with each other and with modifications.
+ * Modifications of the same translation must not run concurrently.
+ */
+public final class TranslationPrefixIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final NavigableSet<Key> keys = new ConcurrentSkipListSet<>(
+        Comparator.comparing(Key::text).thenComparingInt(Key::identifier)
+    );
+    private final Map<Integer, String> identifierTexts = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a text of a translation, replacing its previous text.
+     *
+     * @param identifier translation identifier
+     * @param text       translation text
+     */
+    public void put(final int identifier, final String text) {
+        final var normalizedText = normalize(text);
+        final var previousText = identifierTexts.put(identifier, normalizedText);
+        if (nonNull(previousText) && !previousText.equals(normalizedText)) {
+            keys.remove(new Key(previousText, identifier));
+        }
+        keys.add(new Key(normalizedText, identifier));
+    }
+
+    /**
+     * Removes a text of a translation, if present.
+     *
+     * @param identifier translation identifier
+     */
+    public void remove(final int identifier) {
+        final var previousText = identifierTexts.remove(identifier);
+        if (nonNull(previousText)) {
+            keys.remove(new Key(previousText, identifier));
+        }
+    }
+
+    /**
+     * Finds translations whose normalised text starts with a given normalised prefix.
+     *
+     * @param prefix text prefix
+     * @param limit  maximum number of returned identifiers
+     * @return translation identifiers ordered by normalised text
+     */
+    public List<Integer> findByPrefix(final String prefix, final int limit) {
+        final var normalizedPrefix = normalize(prefix);
+        final var identifiers = new ArrayList<Integer>(Math.min(limit, 16));
+        for (final var key : keys.tailSet(new Key(normalizedPrefix, Integer.MIN_VALUE))) {
+            if (identifiers.size() >= limit || !key.text().startsWith(normalizedPrefix)) {
+                break;
+            }
+            identifiers.add(key.identifier());
+        }
+        return identifiers;
+    }
+
+    public int size() {
+        return identifierTexts.size();
+    }
+
+    static String normalize(final String text) {
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        final var withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").stripLeading();
+    }
+
+    private record Key(String text, int identifier) {}
+}
@@ -0,0 +1,234 @@
+package com.kwezal.bearinmind.translation.bundle;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Read-only set of resolved translation texts in a single locale, backed by a memory-mapped file.
+ * <p>
+ * File layout (big-endian):
+ * <pre>
+ * int    magic number
+ * int    format version
+ * long   change version of the catalog the bundle was built from
+ * int    number of entries (n)
+ * int[n] translation identifiers in ascending order
+ * int[n + 1] offsets of the texts relative to the beginning of the text section
+ * byte[] UTF-8 encoded texts
+ * </pre>
+ */
+public final class TranslationBundle {
+
+    static final int MAGIC = 0x42494D54;
+    static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final String locale;
+    private final long version;
+    private final String etag;
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int offsetsPosition;
+    private final int textsPosition;
+
+    private TranslationBundle(final String locale, final ByteBuffer buffer, final String etag) {
+        if (
+            buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+        ) {
+            throw new IllegalArgumentException("Unsupported translation bundle format");
+        }
+
+        this.locale = locale;
+        this.version = buffer.getLong(2 * Integer.BYTES);
+        this.size = buffer.getInt(2 * Integer.BYTES + Long.BYTES);
+        this.offsetsPosition = HEADER_SIZE + size * Integer.BYTES;
+        this.textsPosition = offsetsPosition + (size + 1) * Integer.BYTES;
+        if (size < 0 || buffer.capacity() < textsPosition) {
+            throw new IllegalArgumentException("Truncated translation bundle");
+        }
+        this.buffer = buffer;
+        this.etag = etag;
+    }
+
+    /**
+     * Writes a bundle to a given file, replacing it atomically, and maps it into memory.
+     *
+     * @param path    bundle file
+     * @param locale  locale of the texts
+     * @param version change version of the catalog the texts come from
+     * @param texts   mapping of translation identifier to resolved text
+     * @return written bundle
+     * @throws IOException if the file cannot be written
+     */
+    public static TranslationBundle write(
+        final Path path,
+        final String locale,
+        final long version,
+        final SortedMap<Integer, String> texts
+    ) throws IOException {
+        final var encodedTexts = new byte[texts.size()][];
+        var index = 0;
+        for (final var text : texts.values()) {
+            encodedTexts[index++] = text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        Files.createDirectories(path.getParent());
+        final var temporaryPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        final var digest = newDigest();
+        try (
+            final var output = new DataOutputStream(
+                new BufferedOutputStream(new DigestOutputStream(Files.newOutputStream(temporaryPath), digest))
+            )
+        ) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(version);
+            output.writeInt(texts.size());
+            for (final var identifier : texts.keySet()) {
+                output.writeInt(identifier);
+            }
+
+            var offset = 0;
+            output.writeInt(offset);
+            for (final var encodedText : encodedTexts) {
+                offset += encodedText.length;
+                output.writeInt(offset);
+            }
+
+            for (final var encodedText : encodedTexts) {
+                output.write(encodedText);
+            }
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new TranslationBundle(locale, map(path), HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Maps an existing bundle file into memory.
+     *
+     * @param path   bundle file
+     * @param locale locale of the texts
+     * @return read bundle
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a bundle in the supported format
+     */
+    public static TranslationBundle read(final Path path, final String locale) throws IOException {
+        final var buffer = map(path);
+        final var digest = newDigest();
+        digest.update(buffer.duplicate());
+        return new TranslationBundle(locale, buffer, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    public String locale() {
+        return locale;
+    }
+
+    /**
+     * @return change version of the catalog the bundle was built from
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return hash of the bundle content, suitable for use as an HTTP entity tag
+     */
+    public String etag() {
+        return etag;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return read-only view of the whole bundle file, sharing the mapped memory
+     */
+    public ByteBuffer buffer() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Finds a text of a translation with a given identifier.
+     *
+     * @param identifier translation identifier
+     * @return translation text
+     */
+    public Optional<String> findText(final int identifier) {
+        var low = 0;
+        var high = size - 1;
+        while (low <= high) {
+            final var middle = (low + high) >>> 1;
+            final var middleIdentifier = identifierAt(middle);
+            if (middleIdentifier < identifier) {
+                low = middle + 1;
+            } else if (middleIdentifier > identifier) {
+                high = middle - 1;
+            } else {
+                return Optional.of(textAt(middle));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Decodes all texts of the bundle.
+     *
+     * @return mapping of translation identifier to text, sorted by identifier
+     */
+    public SortedMap<Integer, String> toMap() {
+        final var result = new TreeMap<Integer, String>();
+        for (var i = 0; i < size; ++i) {
+            result.put(identifierAt(i), textAt(i));
+        }
+        return result;
+    }
+
+    private int identifierAt(final int index) {
+        return buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+    }
+
+    private String textAt(final int index) {
+        final var start = buffer.getInt(offsetsPosition + index * Integer.BYTES);
+        final var end = buffer.getInt(offsetsPosition + (index + 1) * Integer.BYTES);
+        final var bytes = new byte[end - start];
+        buffer.get(textsPosition + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer map(final Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationBundle[locale=" + locale + ", version=" + version + ", size=" + size + ", etag=" + etag + "]";
+    }
+}
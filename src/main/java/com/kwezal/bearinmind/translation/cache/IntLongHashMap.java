@@ -0,0 +1,151 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map of primitive {@code int} keys to non-negative {@code long} values.
+ * Not thread-safe.
+ */
+final class IntLongHashMap {
+
+    static final long MISSING = -1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    IntLongHashMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param key key
+     * @return value mapped to a given key or {@link #MISSING}
+     */
+    long get(final int key) {
+        final var mask = keys.length - 1;
+        for (var slot = slot(key, mask); values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * @param key   key
+     * @param value non-negative value
+     * @return previous value mapped to a given key or {@link #MISSING}
+     */
+    long put(final int key, final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+
+        final var mask = keys.length - 1;
+        var slot = slot(key, mask);
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                final var previousValue = values[slot];
+                values[slot] = value;
+                return previousValue;
+            }
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length * 3 / 4) {
+            resize();
+        }
+        return MISSING;
+    }
+
+    /**
+     * @param key key
+     * @return removed value or {@link #MISSING}
+     */
+    long remove(final int key) {
+        final var mask = keys.length - 1;
+        var slot = slot(key, mask);
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                final var removedValue = values[slot];
+                shiftBack(slot, mask);
+                --size;
+                return removedValue;
+            }
+        }
+        return MISSING;
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    void forEach(final Consumer consumer) {
+        for (var slot = 0; slot < keys.length; ++slot) {
+            if (values[slot] != MISSING) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Fills the gap left by a removed entry with the following entries of the same probe sequence.
+     */
+    private void shiftBack(int gap, final int mask) {
+        values[gap] = MISSING;
+        for (var slot = (gap + 1) & mask; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            final var home = slot(keys[slot], mask);
+            // The entry can only be moved if its home slot is not cyclically within (gap, slot]
+            final var isHomeBetween = gap <= slot ? gap < home && home <= slot : gap < home || home <= slot;
+            if (!isHomeBetween) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                values[slot] = MISSING;
+                gap = slot;
+            }
+        }
+    }
+
+    private void resize() {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        final var mask = keys.length - 1;
+        for (var i = 0; i < oldKeys.length; ++i) {
+            if (oldValues[i] != MISSING) {
+                var slot = slot(oldKeys[i], mask);
+                while (values[slot] != MISSING) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        Arrays.fill(values, MISSING);
+    }
+
+    private static int slot(final int key, final int mask) {
+        final var hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @FunctionalInterface
+    interface Consumer {
+        void accept(int key, long value);
+    }
+}
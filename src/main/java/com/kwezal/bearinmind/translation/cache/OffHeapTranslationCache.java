@@ -0,0 +1,295 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Translation cache that keeps texts as UTF-8 bytes in direct memory, outside the garbage-collected heap.
+ * Strings are only created when a text is read.
+ * <p>
+ * Texts are appended to fixed-size chunks that are used as a ring buffer:
+ * when the memory limit is reached, the oldest chunk is cleared together with all texts it contains.
+ * Each locale has its own index of translation identifiers to text positions.
+ * Note that the direct memory is limited by the {@code -XX:MaxDirectMemorySize} JVM option.
+ */
+@Component
+@ConditionalOnExpression("${application.translation.cache.enabled:false} and !${application.translation.tenancy.enabled:false}")
+// Evicted before other listeners reload changed texts through the TranslationService
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OffHeapTranslationCache implements TranslationCache {
+
+    // Translation identifier, requested locale index, index of the locale the text is defined in and text length
+    private static final int ENTRY_HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int TEXT_LENGTH_OFFSET = 3 * Integer.BYTES;
+
+    private final int chunkSize;
+    private final Chunk[] chunks;
+    private int currentChunkSequence = -1;
+    private int writePosition;
+
+    private final Map<String, Integer> localeIndexes = new HashMap<>();
+    private final List<String> locales = new ArrayList<>();
+    private final List<IntLongHashMap> localeLocations = new ArrayList<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long entries;
+    private long usedBytes;
+    private long evictions;
+
+    public OffHeapTranslationCache(
+        @Value("${application.translation.cache.max-size:256MB}") final DataSize maxSize,
+        @Value("${application.translation.cache.chunk-size:16MB}") final DataSize chunkSize
+    ) {
+        this.chunkSize = (int) Math.min(chunkSize.toBytes(), Integer.MAX_VALUE);
+        this.chunks = new Chunk[(int) Math.max(1, maxSize.toBytes() / this.chunkSize)];
+    }
+
+    @Override
+    public Optional<TranslationTextAndLocaleDto> get(final int identifier, final String locale) {
+        final TranslationTextAndLocaleDto text;
+        lock.readLock().lock();
+        try {
+            final var location = findLocation(identifier, locale);
+            if (location == IntLongHashMap.MISSING) {
+                misses.increment();
+                return Optional.empty();
+            }
+
+            text = textAt(location);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.increment();
+        return Optional.of(text);
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(final int identifier, final String locale, final TranslationTextAndLocaleDto text, final long generation) {
+        final var bytes = text.text().getBytes(StandardCharsets.UTF_8);
+        final var entrySize = ENTRY_HEADER_SIZE + bytes.length;
+        if (entrySize > chunkSize) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (generation != this.generation.get()) {
+                return;
+            }
+
+            if (currentChunkSequence < 0 || writePosition + entrySize > chunkSize) {
+                startNextChunk();
+            }
+
+            final var localeIndex = localeIndex(locale);
+            final var buffer = chunks[currentChunkSequence % chunks.length].buffer;
+            buffer.putInt(writePosition, identifier);
+            buffer.putInt(writePosition + Integer.BYTES, localeIndex);
+            buffer.putInt(writePosition + 2 * Integer.BYTES, localeIndex(text.locale()));
+            buffer.putInt(writePosition + TEXT_LENGTH_OFFSET, bytes.length);
+            buffer.put(writePosition + ENTRY_HEADER_SIZE, bytes);
+
+            final var location = ((long) currentChunkSequence << 32) | writePosition;
+            final var previousLocation = localeLocations.get(localeIndex).put(identifier, location);
+            if (previousLocation == IntLongHashMap.MISSING) {
+                ++entries;
+            } else {
+                usedBytes -= entrySizeAt(previousLocation);
+            }
+            usedBytes += entrySize;
+            writePosition += entrySize;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void evict(final Collection<Integer> identifiers) {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            for (final var locations : localeLocations) {
+                for (final var identifier : identifiers) {
+                    final var location = locations.remove(identifier);
+                    if (location != IntLongHashMap.MISSING) {
+                        --entries;
+                        usedBytes -= entrySizeAt(location);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            localeLocations.forEach(IntLongHashMap::clear);
+            entries = 0;
+            usedBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEach(final EntryConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            localeIndexes.forEach((locale, localeIndex) ->
+                localeLocations
+                    .get(localeIndex)
+                    .forEach((identifier, location) -> consumer.accept(identifier, locale, textAt(location)))
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TranslationCacheStatistics statistics() {
+        lock.readLock().lock();
+        try {
+            var allocatedChunks = 0;
+            for (final var chunk : chunks) {
+                if (chunk != null) {
+                    ++allocatedChunks;
+                }
+            }
+
+            return new TranslationCacheStatistics(
+                entries,
+                usedBytes,
+                (long) allocatedChunks * chunkSize,
+                (long) chunks.length * chunkSize,
+                hits.sum(),
+                misses.sum(),
+                evictions
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int localeIndex(final String locale) {
+        return localeIndexes.computeIfAbsent(
+            locale,
+            key -> {
+                locales.add(locale);
+                localeLocations.add(new IntLongHashMap());
+                return localeLocations.size() - 1;
+            }
+        );
+    }
+
+    private TranslationTextAndLocaleDto textAt(final long location) {
+        final var buffer = chunkAt(location).buffer;
+        final var position = positionAt(location);
+        final var bytes = new byte[buffer.getInt(position + TEXT_LENGTH_OFFSET)];
+        buffer.get(position + ENTRY_HEADER_SIZE, bytes);
+        return new TranslationTextAndLocaleDto(
+            new String(bytes, StandardCharsets.UTF_8),
+            locales.get(buffer.getInt(position + 2 * Integer.BYTES))
+        );
+    }
+
+    private long findLocation(final int identifier, final String locale) {
+        final var localeIndex = localeIndexes.get(locale);
+        return localeIndex == null ? IntLongHashMap.MISSING : localeLocations.get(localeIndex).get(identifier);
+    }
+
+    /**
+     * Makes the next chunk current. If all chunks are allocated, the oldest one is reused
+     * and the texts it contains are evicted.
+     */
+    private void startNextChunk() {
+        if (currentChunkSequence >= 0) {
+            chunks[currentChunkSequence % chunks.length].size = writePosition;
+        }
+
+        final var sequence = currentChunkSequence + 1;
+        final var slot = sequence % chunks.length;
+        if (chunks[slot] == null) {
+            chunks[slot] = new Chunk(ByteBuffer.allocateDirect(chunkSize));
+        } else {
+            evictChunk(chunks[slot]);
+        }
+
+        chunks[slot].sequence = sequence;
+        chunks[slot].size = 0;
+        currentChunkSequence = sequence;
+        writePosition = 0;
+    }
+
+    private void evictChunk(final Chunk chunk) {
+        final var buffer = chunk.buffer;
+        var position = 0;
+        while (position < chunk.size) {
+            final var identifier = buffer.getInt(position);
+            final var locations = localeLocations.get(buffer.getInt(position + Integer.BYTES));
+            final var entrySize = ENTRY_HEADER_SIZE + buffer.getInt(position + TEXT_LENGTH_OFFSET);
+
+            // Only the latest text of a translation is indexed, older ones are skipped
+            final var location = ((long) chunk.sequence << 32) | position;
+            if (locations.get(identifier) == location) {
+                locations.remove(identifier);
+                --entries;
+                usedBytes -= entrySize;
+                ++evictions;
+            }
+
+            position += entrySize;
+        }
+    }
+
+    private Chunk chunkAt(final long location) {
+        return chunks[(int) (location >>> 32) % chunks.length];
+    }
+
+    private int entrySizeAt(final long location) {
+        return ENTRY_HEADER_SIZE + chunkAt(location).buffer.getInt(positionAt(location) + TEXT_LENGTH_OFFSET);
+    }
+
+    private static int positionAt(final long location) {
+        return (int) location;
+    }
+
+    private static class Chunk {
+
+        private final ByteBuffer buffer;
+        private int sequence;
+        private int size;
+
+        private Chunk(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
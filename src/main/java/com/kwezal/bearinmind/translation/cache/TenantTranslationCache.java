@@ -0,0 +1,191 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Translation cache with a separate {@link OffHeapTranslationCache} for each tenant schema,
+ * so that translations of tenants with equal identifiers are never mixed up.
+ * <p>
+ * Caches are created on first use and each of them is limited to the configured size.
+ * Like the {@code TranslationCacheSynchronizer}, it periodically evicts translations changed
+ * by other application instances, in each schema with a cache. Snapshots are not supported.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${application.translation.cache.enabled:false} and ${application.translation.tenancy.enabled:false}")
+// Evicted before other listeners reload changed texts through the TranslationService
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TenantTranslationCache implements TranslationCache, SmartLifecycle {
+
+    private final TranslationService translationService;
+    private final TranslationTenancy tenancy;
+    private final DataSize maxSize;
+    private final DataSize chunkSize;
+    private final Duration syncInterval;
+
+    private final Map<String, SchemaCache> schemaCaches = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    public TenantTranslationCache(
+        final TranslationService translationService,
+        final TranslationTenancy tenancy,
+        @Value("${application.translation.cache.max-size:256MB}") final DataSize maxSize,
+        @Value("${application.translation.cache.chunk-size:16MB}") final DataSize chunkSize,
+        @Value("${application.translation.cache.sync-interval:10s}") final Duration syncInterval
+    ) {
+        this.translationService = translationService;
+        this.tenancy = tenancy;
+        this.maxSize = maxSize;
+        this.chunkSize = chunkSize;
+        this.syncInterval = syncInterval;
+    }
+
+    @Override
+    public Optional<TranslationTextAndLocaleDto> get(final int identifier, final String locale) {
+        return currentCache().get(identifier, locale);
+    }
+
+    @Override
+    public long generation() {
+        return currentCache().generation();
+    }
+
+    @Override
+    public void put(final int identifier, final String locale, final TranslationTextAndLocaleDto text, final long generation) {
+        currentCache().put(identifier, locale, text, generation);
+    }
+
+    /**
+     * Evicts translations with given identifiers in all locales of the current tenant.
+     *
+     * @param identifiers translation identifiers
+     */
+    @Override
+    public void evict(final Collection<Integer> identifiers) {
+        final var schemaCache = schemaCaches.get(tenancy.currentSchema());
+        if (nonNull(schemaCache)) {
+            schemaCache.cache.evict(identifiers);
+        }
+    }
+
+    /**
+     * Evicts all translations of all tenants.
+     */
+    @Override
+    public void clear() {
+        schemaCaches.values().forEach(schemaCache -> schemaCache.cache.clear());
+    }
+
+    /**
+     * Passes all cached texts of the current tenant to a given consumer.
+     *
+     * @param consumer consumer of translation identifier, requested locale and text with the locale it is defined in
+     */
+    @Override
+    public void forEach(final EntryConsumer consumer) {
+        final var schemaCache = schemaCaches.get(tenancy.currentSchema());
+        if (nonNull(schemaCache)) {
+            schemaCache.cache.forEach(consumer);
+        }
+    }
+
+    /**
+     * Evicts translations changed since the last synchronization from the caches of all tenants.
+     */
+    public void synchronize() {
+        schemaCaches.forEach((schema, schemaCache) -> {
+            try {
+                tenancy.callAs(schema, () -> synchronize(schemaCache));
+            } catch (RuntimeException e) {
+                log.warn("Could not synchronize translation cache of schema {}", schema, e);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "translation-cache-synchronizer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.scheduleWithFixedDelay(
+            this::synchronize,
+            syncInterval.toMillis(),
+            syncInterval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return nonNull(executor);
+    }
+
+    private TranslationCache currentCache() {
+        final var schema = tenancy.currentSchema();
+        var schemaCache = schemaCaches.get(schema);
+        if (isNull(schemaCache)) {
+            // Read before anything is cached, so that no change made in the meantime is missed
+            final var syncedVersion = translationService.findLatestVersion();
+            final var newSchemaCache = new SchemaCache(new OffHeapTranslationCache(maxSize, chunkSize), syncedVersion);
+            schemaCache = schemaCaches.computeIfAbsent(schema, key -> newSchemaCache);
+        }
+        return schemaCache.cache;
+    }
+
+    private Void synchronize(final SchemaCache schemaCache) {
+        synchronized (schemaCache) {
+            // The latest committed version is read first, so that changes committed in the meantime,
+            // including those of transactions started earlier, are evicted again next time
+            final var latestVersion = translationService.findLatestVersion();
+            final var changedIdentifiers = translationService.findChangedIdentifiersSince(schemaCache.syncedVersion);
+            if (!changedIdentifiers.isEmpty()) {
+                schemaCache.cache.evict(changedIdentifiers);
+            }
+            schemaCache.syncedVersion = latestVersion;
+        }
+        return null;
+    }
+
+    private static class SchemaCache {
+
+        private final OffHeapTranslationCache cache;
+        private long syncedVersion;
+
+        private SchemaCache(final OffHeapTranslationCache cache, final long syncedVersion) {
+            this.cache = cache;
+            this.syncedVersion = syncedVersion;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.service.TranslationChangeListener;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cache of translation texts resolved for a requested locale, i.e. with the application locale fallback applied,
+ * together with the locale each text is defined in. Entries of changed translations are evicted in all locales.
+ */
+public interface TranslationCache extends TranslationChangeListener {
+    /**
+     * Finds a cached text of a translation with a given identifier in a given locale.
+     *
+     * @param identifier translation identifier
+     * @param locale     requested locale
+     * @return translation text with the locale it is defined in
+     */
+    Optional<TranslationTextAndLocaleDto> get(int identifier, String locale);
+
+    /**
+     * Returns a value that changes whenever an entry is evicted.
+     * It has to be read before a text is loaded from the database and passed to {@link #put},
+     * so that a text loaded concurrently with its modification is not cached.
+     *
+     * @return eviction generation
+     */
+    long generation();
+
+    /**
+     * Caches a text of a translation with a given identifier in a given locale,
+     * unless any entry has been evicted since a given generation.
+     *
+     * @param identifier translation identifier
+     * @param locale     requested locale
+     * @param text       resolved translation text with the locale it is defined in
+     * @param generation generation read before the text was loaded
+     */
+    void put(int identifier, String locale, TranslationTextAndLocaleDto text, long generation);
+
+    /**
+     * Evicts translations with given identifiers in all locales.
+     *
+     * @param identifiers translation identifiers
+     */
+    void evict(Collection<Integer> identifiers);
+
+    /**
+     * Evicts all translations.
+     */
+    void clear();
+
+    /**
+     * Passes all cached texts to a given consumer.
+     *
+     * @param consumer consumer of translation identifier, requested locale and text with the locale it is defined in
+     */
+    void forEach(EntryConsumer consumer);
+
+    @Override
+    default void onTranslationsChanged(final Set<Integer> identifiers) {
+        evict(identifiers);
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int identifier, String locale, TranslationTextAndLocaleDto text);
+    }
+}
@@ -0,0 +1,151 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of translation cache entries stored in a file, used to warm up the cache after a restart.
+ * <p>
+ * File layout (big-endian):
+ * <pre>
+ * int    magic number
+ * int    format version
+ * long   change version up to which the entries are consistent with the database
+ * UTF    application locale the entries were resolved with
+ * entries, each preceded by a byte {@code 1}:
+ *   int    translation identifier
+ *   UTF    requested locale
+ *   UTF    locale the text is defined in
+ *   int    text length (n)
+ *   byte[n] UTF-8 encoded text
+ * byte   {@code 0}
+ * long   CRC32 checksum of all preceding bytes
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TranslationCacheSnapshot {
+
+    static final int MAGIC = 0x42494D43;
+    static final int FORMAT_VERSION = 2;
+    private static final int MAX_TEXT_LENGTH = 1 << 20;
+
+    /**
+     * Writes all entries of a given cache to a given file, replacing it atomically.
+     *
+     * @param path              snapshot file
+     * @param applicationLocale application locale
+     * @param version           change version up to which the entries are consistent with the database
+     * @param cache             cache
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(final Path path, final String applicationLocale, final long version, final TranslationCache cache)
+        throws IOException {
+        final var directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final var temporaryPath = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            final var checksum = new CRC32();
+            try (
+                final var output = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)), checksum)
+                )
+            ) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(version);
+                output.writeUTF(applicationLocale);
+                cache.forEach((identifier, locale, text) -> {
+                    final var bytes = text.text().getBytes(StandardCharsets.UTF_8);
+                    try {
+                        output.writeByte(1);
+                        output.writeInt(identifier);
+                        output.writeUTF(locale);
+                        output.writeUTF(text.locale());
+                        output.writeInt(bytes.length);
+                        output.write(bytes);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                output.writeByte(0);
+                output.writeLong(checksum.getValue());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    /**
+     * Reads entries from a given file and passes them to a given consumer.
+     * Entries are passed before the checksum is verified, so the consumer has to discard them if the method throws.
+     *
+     * @param path              snapshot file
+     * @param applicationLocale application locale
+     * @param consumer          consumer of translation identifier, requested locale and text with its locale
+     * @return change version up to which the entries are consistent with the database
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a snapshot in the supported format,
+     *                                  was resolved with another application locale or is corrupt
+     */
+    public static long read(final Path path, final String applicationLocale, final TranslationCache.EntryConsumer consumer)
+        throws IOException {
+        final var checksum = new CRC32();
+        try (
+            final var input = new DataInputStream(
+                new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)), checksum)
+            )
+        ) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported translation cache snapshot format");
+            }
+
+            final var version = input.readLong();
+            if (!applicationLocale.equals(input.readUTF())) {
+                throw new IllegalArgumentException("Translation cache snapshot resolved with another application locale");
+            }
+
+            while (input.readByte() != 0) {
+                final var identifier = input.readInt();
+                final var locale = input.readUTF();
+                final var textLocale = input.readUTF();
+                final var length = input.readInt();
+                if (length < 0 || length > MAX_TEXT_LENGTH) {
+                    throw new IllegalArgumentException("Corrupt translation cache snapshot");
+                }
+
+                final var bytes = new byte[length];
+                input.readFully(bytes);
+                consumer.accept(
+                    identifier,
+                    locale,
+                    new TranslationTextAndLocaleDto(new String(bytes, StandardCharsets.UTF_8), textLocale)
+                );
+            }
+
+            final var expectedChecksum = checksum.getValue();
+            if (input.readLong() != expectedChecksum) {
+                throw new IllegalArgumentException("Corrupt translation cache snapshot");
+            }
+
+            return version;
+        }
+    }
+}
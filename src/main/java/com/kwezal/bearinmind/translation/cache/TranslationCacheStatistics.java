@@ -0,0 +1,22 @@
+package com.kwezal.bearinmind.translation.cache;
+
+/**
+ * Point-in-time statistics of a translation cache.
+ *
+ * @param entries        number of cached texts
+ * @param usedBytes      memory taken by cached texts, including entry headers
+ * @param allocatedBytes memory allocated for cached texts
+ * @param maxBytes       memory limit
+ * @param hits           number of lookups that found a cached text
+ * @param misses         number of lookups that did not find a cached text
+ * @param evictions      number of texts evicted to make room for new ones
+ */
+public record TranslationCacheStatistics(
+    long entries,
+    long usedBytes,
+    long allocatedBytes,
+    long maxBytes,
+    long hits,
+    long misses,
+    long evictions
+) {}
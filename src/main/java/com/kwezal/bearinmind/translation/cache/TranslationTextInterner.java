@@ -0,0 +1,60 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes equal short texts returned by the translation service share a single {@link String} instance,
+ * so that texts repeated across many translations, e.g. "Introduction" or "Summary",
+ * are held in memory once by caches of consuming applications.
+ * <p>
+ * Texts are never removed. When the configured number of texts is reached, new texts are returned as they are.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.translation.intern", name = "enabled", havingValue = "true")
+public class TranslationTextInterner {
+
+    private final int maxTextLength;
+    private final int maxEntries;
+    private final Map<String, String> texts = new ConcurrentHashMap<>();
+
+    public TranslationTextInterner(
+        @Value("${application.translation.intern.max-text-length:64}") final int maxTextLength,
+        @Value("${application.translation.intern.max-entries:100000}") final int maxEntries
+    ) {
+        this.maxTextLength = maxTextLength;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param text text
+     * @return a shared instance equal to a given text, or the text itself if it is too long or there is no room for it
+     */
+    public String intern(final String text) {
+        if (isNull(text) || text.length() > maxTextLength) {
+            return text;
+        }
+
+        final var internedText = texts.get(text);
+        if (nonNull(internedText)) {
+            return internedText;
+        }
+
+        if (texts.size() >= maxEntries) {
+            return text;
+        }
+
+        final var previousText = texts.putIfAbsent(text, text);
+        return isNull(previousText) ? text : previousText;
+    }
+
+    public int size() {
+        return texts.size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Translations of a single locale changed since a given change version.
+ *
+ * @param version   change version to pass to the next call to receive only newer changes
+ * @param upserts   created or updated translations
+ * @param deletions identifiers of deleted translations
+ */
+public record TranslationChangesDto(
+    @NotNull Long version,
+
+    @NotNull List<TranslationIdentifierAndTextDto> upserts,
+
+    @NotNull List<Integer> deletions
+) {}
@@ -0,0 +1,19 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import com.kwezal.bearinmind.translation.validation.annotation.Locale;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A translation copied in a single locale.
+ *
+ * @param sourceIdentifier identifier of the copied translation
+ * @param identifier       identifier of the copy
+ * @param locale           locale
+ */
+public record TranslationCopyDto(
+    @NotNull Integer sourceIdentifier,
+
+    @NotNull Integer identifier,
+
+    @Locale String locale
+) {}
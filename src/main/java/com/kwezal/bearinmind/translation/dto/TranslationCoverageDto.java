@@ -0,0 +1,19 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import com.kwezal.bearinmind.translation.validation.annotation.Locale;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Translation coverage of a single locale.
+ *
+ * @param locale           locale
+ * @param translatedCount  number of translations with a text in this locale
+ * @param translationCount number of all translations, i.e. translations with a text in the application locale
+ */
+public record TranslationCoverageDto(
+    @Locale String locale,
+
+    @NotNull Long translatedCount,
+
+    @NotNull Long translationCount
+) {}
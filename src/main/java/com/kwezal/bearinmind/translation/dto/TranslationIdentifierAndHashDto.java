@@ -0,0 +1,9 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import javax.validation.constraints.NotNull;
+
+public record TranslationIdentifierAndHashDto(
+    @NotNull Integer identifier,
+
+    @NotNull String hash
+) {}
@@ -0,0 +1,12 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import com.kwezal.bearinmind.translation.validation.annotation.Locale;
+import javax.validation.constraints.NotNull;
+
+public record TranslationIdentifierTextAndLocaleDto(
+    @NotNull Integer identifier,
+
+    @NotNull String text,
+
+    @Locale String locale
+) {}
@@ -0,0 +1,11 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import javax.validation.constraints.NotNull;
+
+public record TranslationIdentifierTextAndVersionDto(
+    @NotNull Integer identifier,
+
+    @NotNull String text,
+
+    @NotNull Long version
+) {}
@@ -0,0 +1,127 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import static java.util.Objects.nonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Texts of multiple translations in multiple locales, stored in a single array indexed by (identifier, locale).
+ * Identifiers are sorted in ascending order. A missing text is represented by {@code null}.
+ */
+public final class TranslationLocaleMatrix {
+
+    private final int[] identifiers;
+    private final String[] locales;
+    private final String[] texts;
+    private final Map<String, Integer> localeIndexes;
+
+    /**
+     * @param identifiers translation identifiers sorted in ascending order, without duplicates
+     * @param locales     locales
+     * @param texts       texts indexed by {@code identifierIndex * locales.length + localeIndex}
+     */
+    public TranslationLocaleMatrix(final int[] identifiers, final String[] locales, final String[] texts) {
+        if (texts.length != identifiers.length * locales.length) {
+            throw new IllegalArgumentException("Number of texts must equal number of identifiers times number of locales");
+        }
+
+        this.identifiers = identifiers;
+        this.locales = locales;
+        this.texts = texts;
+        this.localeIndexes = new HashMap<>(locales.length * 2);
+        for (int i = 0; i < locales.length; i++) {
+            localeIndexes.put(locales[i], i);
+        }
+    }
+
+    public int identifierCount() {
+        return identifiers.length;
+    }
+
+    public int localeCount() {
+        return locales.length;
+    }
+
+    public boolean isEmpty() {
+        return identifiers.length == 0;
+    }
+
+    public int identifier(final int identifierIndex) {
+        return identifiers[identifierIndex];
+    }
+
+    public String locale(final int localeIndex) {
+        return locales[localeIndex];
+    }
+
+    /**
+     * @param identifier translation identifier
+     * @return identifier index or a negative number if there is no such identifier
+     */
+    public int identifierIndex(final int identifier) {
+        return Arrays.binarySearch(identifiers, identifier);
+    }
+
+    /**
+     * @param locale locale
+     * @return locale index or {@code -1} if there is no such locale
+     */
+    public int localeIndex(final String locale) {
+        return localeIndexes.getOrDefault(locale, -1);
+    }
+
+    /**
+     * @param identifierIndex identifier index
+     * @param localeIndex     locale index
+     * @return text or {@code null} if the translation has no text in the locale
+     */
+    public String text(final int identifierIndex, final int localeIndex) {
+        return texts[identifierIndex * locales.length + localeIndex];
+    }
+
+    /**
+     * @param identifier translation identifier
+     * @param locale     locale
+     * @return text or {@code null} if the translation or the locale is not in the matrix, or the translation has no text in
+     * the locale
+     */
+    public String text(final int identifier, final String locale) {
+        final var identifierIndex = identifierIndex(identifier);
+        final var localeIndex = localeIndex(locale);
+        return identifierIndex < 0 || localeIndex < 0 ? null : text(identifierIndex, localeIndex);
+    }
+
+    /**
+     * @param identifierIndex identifier index
+     * @return mapping of locale to text, without missing texts
+     */
+    public Map<String, String> localeTexts(final int identifierIndex) {
+        final var result = new LinkedHashMap<String, String>();
+        for (int localeIndex = 0; localeIndex < locales.length; localeIndex++) {
+            final var text = text(identifierIndex, localeIndex);
+            if (nonNull(text)) {
+                result.put(locales[localeIndex], text);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return mapping of translation identifier to mapping of locale to text
+     */
+    public Map<Integer, Map<String, String>> toMap() {
+        final var result = new LinkedHashMap<Integer, Map<String, String>>();
+        for (int identifierIndex = 0; identifierIndex < identifiers.length; identifierIndex++) {
+            result.put(identifiers[identifierIndex], localeTexts(identifierIndex));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
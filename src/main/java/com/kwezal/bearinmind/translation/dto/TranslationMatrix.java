@@ -0,0 +1,285 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Texts of multiple translation fields in multiple locales, stored in a single array indexed by (field, locale).
+ * The texts can be traversed both by locale and by field without copying.
+ * A missing text is represented by {@code null}.
+ */
+public final class TranslationMatrix {
+
+    private static final TranslationMatrix EMPTY = new TranslationMatrix(new String[0], new String[0], new String[0]);
+
+    private final String[] fields;
+    private final String[] locales;
+    private final String[] texts;
+    private final Map<String, Integer> fieldIndexes;
+    private final Map<String, Integer> localeIndexes;
+
+    private TranslationMatrix(final String[] fields, final String[] locales, final String[] texts) {
+        this.fields = fields;
+        this.locales = locales;
+        this.texts = texts;
+        this.fieldIndexes = indexes(fields);
+        this.localeIndexes = indexes(locales);
+    }
+
+    /**
+     * Creates a matrix from a mapping of locale to field texts.
+     * A locale is kept even if it has no texts, unless its field texts are {@code null},
+     * so that such a locale is missing from the matrix just like it is missing from the mapping.
+     *
+     * @param localeFieldTextsMap mapping of locale to field texts
+     * @return matrix or an empty matrix if a given mapping is {@code null}
+     */
+    public static TranslationMatrix of(final Map<String, Map<String, String>> localeFieldTextsMap) {
+        if (isNull(localeFieldTextsMap)) {
+            return EMPTY;
+        }
+
+        final var fieldIndexes = new LinkedHashMap<String, Integer>();
+        final var localeIndexes = new LinkedHashMap<String, Integer>();
+        localeFieldTextsMap.forEach((locale, fieldTexts) -> {
+            if (nonNull(fieldTexts)) {
+                localeIndexes.putIfAbsent(locale, localeIndexes.size());
+                fieldTexts.keySet().forEach(field -> fieldIndexes.putIfAbsent(field, fieldIndexes.size()));
+            }
+        });
+
+        final var localeCount = localeIndexes.size();
+        final var texts = new String[fieldIndexes.size() * localeCount];
+        localeFieldTextsMap.forEach((locale, fieldTexts) -> {
+            if (nonNull(fieldTexts)) {
+                final var localeIndex = localeIndexes.get(locale);
+                fieldTexts.forEach((field, text) -> texts[fieldIndexes.get(field) * localeCount + localeIndex] = text);
+            }
+        });
+
+        return new TranslationMatrix(
+            fieldIndexes.keySet().toArray(String[]::new),
+            localeIndexes.keySet().toArray(String[]::new),
+            texts
+        );
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int fieldCount() {
+        return fields.length;
+    }
+
+    public int localeCount() {
+        return locales.length;
+    }
+
+    public boolean isEmpty() {
+        return locales.length == 0;
+    }
+
+    public String field(final int fieldIndex) {
+        return fields[fieldIndex];
+    }
+
+    public String locale(final int localeIndex) {
+        return locales[localeIndex];
+    }
+
+    /**
+     * @param field field name
+     * @return field index or {@code -1} if there is no such field
+     */
+    public int fieldIndex(final String field) {
+        return fieldIndexes.getOrDefault(field, -1);
+    }
+
+    /**
+     * @param locale locale
+     * @return locale index or {@code -1} if there is no such locale
+     */
+    public int localeIndex(final String locale) {
+        return localeIndexes.getOrDefault(locale, -1);
+    }
+
+    /**
+     * @param fieldIndex  field index
+     * @param localeIndex locale index
+     * @return text or {@code null} if the field has no text in the locale
+     */
+    public String text(final int fieldIndex, final int localeIndex) {
+        return texts[fieldIndex * locales.length + localeIndex];
+    }
+
+    /**
+     * Returns a read-only view of texts of all fields in a given locale.
+     *
+     * @param localeIndex locale index
+     * @return mapping of field name to text
+     */
+    public Map<String, String> fieldTexts(final int localeIndex) {
+        return new RowView(fields, fieldIndexes, index -> text(index, localeIndex));
+    }
+
+    /**
+     * Returns a read-only view of texts of a given field in all locales.
+     *
+     * @param fieldIndex field index
+     * @return mapping of locale to text
+     */
+    public Map<String, String> localeTexts(final int fieldIndex) {
+        return new RowView(locales, localeIndexes, index -> text(fieldIndex, index));
+    }
+
+    /**
+     * @return mapping of locale to field texts
+     */
+    public Map<String, Map<String, String>> toMap() {
+        final var result = new LinkedHashMap<String, Map<String, String>>();
+        for (int localeIndex = 0; localeIndex < locales.length; localeIndex++) {
+            result.put(locales[localeIndex], new LinkedHashMap<>(fieldTexts(localeIndex)));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private static Map<String, Integer> indexes(final String[] keys) {
+        final var indexes = new HashMap<String, Integer>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            indexes.put(keys[i], i);
+        }
+        return indexes;
+    }
+
+    /**
+     * Map view of a single row or column of the matrix, skipping missing texts.
+     */
+    private static final class RowView extends AbstractMap<String, String> {
+
+        private final String[] keys;
+        private final Map<String, Integer> keyIndexes;
+        private final IntFunction<String> texts;
+
+        private RowView(final String[] keys, final Map<String, Integer> keyIndexes, final IntFunction<String> texts) {
+            this.keys = keys;
+            this.keyIndexes = keyIndexes;
+            this.texts = texts;
+        }
+
+        @Override
+        public String get(final Object key) {
+            final var index = keyIndexes.get(key);
+            return isNull(index) ? null : texts.apply(index);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return nonNull(get(key));
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final var entry = Map.entry(keys[next], texts.apply(next));
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    var size = 0;
+                    for (int i = 0; i < keys.length; i++) {
+                        if (nonNull(texts.apply(i))) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+
+        private int advance(final int from) {
+            var index = from;
+            while (index < keys.length && isNull(texts.apply(index))) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Collects texts of a matrix. Fields and locales are indexed in the order they are first added.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> fieldIndexes = new LinkedHashMap<>();
+        private final Map<String, Integer> localeIndexes = new LinkedHashMap<>();
+        private final List<String[]> cells = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Adds a locale, even if it has no texts.
+         *
+         * @param locale locale
+         * @return this builder
+         */
+        public Builder locale(final String locale) {
+            localeIndexes.putIfAbsent(locale, localeIndexes.size());
+            return this;
+        }
+
+        /**
+         * Sets a text of a given field in a given locale. A {@code null} text is ignored.
+         *
+         * @param field  field name
+         * @param locale locale
+         * @param text   text
+         * @return this builder
+         */
+        public Builder text(final String field, final String locale, final String text) {
+            locale(locale);
+            fieldIndexes.putIfAbsent(field, fieldIndexes.size());
+            if (nonNull(text)) {
+                cells.add(new String[] { field, locale, text });
+            }
+            return this;
+        }
+
+        public TranslationMatrix build() {
+            final var fields = fieldIndexes.keySet().toArray(String[]::new);
+            final var locales = localeIndexes.keySet().toArray(String[]::new);
+            final var texts = new String[fields.length * locales.length];
+            for (final var cell : cells) {
+                texts[fieldIndexes.get(cell[0]) * locales.length + localeIndexes.get(cell[1])] = cell[2];
+            }
+            return new TranslationMatrix(fields, locales, texts);
+        }
+    }
+}
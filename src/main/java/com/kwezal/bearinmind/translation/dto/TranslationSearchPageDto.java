@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A page of translations found by a search phrase, ordered by identifier and locale.
+ *
+ * @param translations found translations
+ * @param next         position to pass to the next call to receive the next page or {@code null} if this is the last page
+ */
+public record TranslationSearchPageDto(
+    @NotNull List<TranslationIdentifierTextAndLocaleDto> translations,
+
+    TranslationIdentifierAndLocaleDto next
+) {}
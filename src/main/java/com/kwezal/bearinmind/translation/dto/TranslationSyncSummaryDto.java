@@ -0,0 +1,18 @@
+package com.kwezal.bearinmind.translation.dto;
+
+/**
+ * Result of synchronising translations with their desired state.
+ *
+ * @param identifierCount        number of synchronised translations
+ * @param changedIdentifierCount number of translations that differed from their desired state
+ * @param insertedCount          number of texts created in any locale
+ * @param updatedCount           number of texts updated in any locale
+ * @param deletedCount           number of texts deleted in any locale
+ */
+public record TranslationSyncSummaryDto(
+    int identifierCount,
+    int changedIdentifierCount,
+    int insertedCount,
+    int updatedCount,
+    int deletedCount
+) {}
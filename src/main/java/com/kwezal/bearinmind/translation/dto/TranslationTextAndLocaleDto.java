@@ -0,0 +1,10 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import com.kwezal.bearinmind.translation.validation.annotation.Locale;
+import javax.validation.constraints.NotNull;
+
+public record TranslationTextAndLocaleDto(
+    @NotNull String text,
+
+    @Locale String locale
+) {}
@@ -0,0 +1,10 @@
+package com.kwezal.bearinmind.translation.event;
+
+/**
+ * Change of a text of a translation in a single locale.
+ *
+ * @param identifier translation identifier
+ * @param locale     locale
+ * @param type       change type
+ */
+public record TranslationChange(Integer identifier, String locale, TranslationChangeType type) {}
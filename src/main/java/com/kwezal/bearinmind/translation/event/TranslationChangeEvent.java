@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.translation.event;
+
+import java.util.List;
+
+/**
+ * Application event published after a transaction that changed translations has been committed,
+ * carrying all changes made in the transaction.
+ * Successive changes of a text in the same locale are merged, e.g. a text created and then updated is reported as created,
+ * and a text created and then deleted is not reported at all.
+ * <p>
+ * With multi-tenancy, the event carries the schema of the tenant whose translations were changed.
+ *
+ * @param changes changes of texts in the order they were first made
+ * @param schema  schema of the tenant that changed the translations or {@code null} if multi-tenancy is disabled
+ */
+public record TranslationChangeEvent(List<TranslationChange> changes, String schema) {}
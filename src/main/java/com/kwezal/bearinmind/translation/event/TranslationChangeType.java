@@ -0,0 +1,7 @@
+package com.kwezal.bearinmind.translation.event;
+
+public enum TranslationChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+}
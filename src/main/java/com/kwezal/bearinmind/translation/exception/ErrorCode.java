@@ -12,4 +12,7 @@ public final class ErrorCode {
     public static final String INVALID_TRANSLATION_FIELD = "INVALID_TRANSLATION_FIELD";
     public static final String OPTIONAL_FIELD_DEFINED_BUT_NOT_PRESENT_IN_APPLICATION_LOCALE =
         "OPTIONAL_FIELD_DEFINED_BUT_NOT_PRESENT_IN_APPLICATION_LOCALE";
+    public static final String SEARCH_PHRASE_TOO_SHORT = "SEARCH_PHRASE_TOO_SHORT";
+    public static final String INVALID_LOCALE = "INVALID_LOCALE";
+    public static final String INVALID_CATALOG_KEY = "INVALID_CATALOG_KEY";
 }
@@ -1,11 +1,17 @@
 package com.kwezal.bearinmind.translation.mapper;
 
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.dto.TranslationMatrix;
 import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
 import com.kwezal.bearinmind.translation.model.Translation;
+import com.kwezal.bearinmind.translation.model.TranslationDeletion;
 import com.kwezal.bearinmind.translation.validation.annotation.Locale;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper
 public interface TranslationMapper {
@@ -15,6 +21,10 @@ public interface TranslationMapper {
 
     Translation map(String text, String locale);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    TranslationDeletion map(Translation translation);
+
     default List<Translation> map(Map<@Locale String, String> localeTextMap, Integer identifier) {
         return localeTextMap
             .entrySet()
@@ -41,4 +51,26 @@ public interface TranslationMapper {
             .flatMap(localeFieldTexts -> map(localeFieldTexts.getValue(), fieldIdentifiers, localeFieldTexts.getKey()).stream())
             .toList();
     }
+
+    default List<Translation> map(
+        TranslationMatrix localeFieldTexts,
+        Map<String, Integer> fieldIdentifiers,
+        @Locale String excludedLocale
+    ) {
+        final var translations = new ArrayList<Translation>();
+        for (int localeIndex = 0; localeIndex < localeFieldTexts.localeCount(); localeIndex++) {
+            final var locale = localeFieldTexts.locale(localeIndex);
+            if (locale.equals(excludedLocale)) {
+                continue;
+            }
+
+            for (int fieldIndex = 0; fieldIndex < localeFieldTexts.fieldCount(); fieldIndex++) {
+                final var text = localeFieldTexts.text(fieldIndex, localeIndex);
+                if (nonNull(text)) {
+                    translations.add(map(text, locale, fieldIdentifiers.get(localeFieldTexts.field(fieldIndex))));
+                }
+            }
+        }
+        return translations;
+    }
 }
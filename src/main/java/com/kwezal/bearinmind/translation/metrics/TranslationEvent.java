@@ -0,0 +1,42 @@
+package com.kwezal.bearinmind.translation.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event of a translation service call.
+ * Only calls lasting longer than the threshold are recorded, which can be changed in the recording settings.
+ */
+@Name(TranslationEvent.NAME)
+@Label("Translation Service Call")
+@Category({ "Bear in Mind", "Translations" })
+@Description("Call of a translation service method")
+@Threshold("10 ms")
+@StackTrace(false)
+class TranslationEvent extends Event {
+
+    static final String NAME = "com.kwezal.bearinmind.translation.TranslationServiceCall";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Locale")
+    String locale;
+
+    @Label("Query Path")
+    @Description("Whether the default or the non-default locale query was used")
+    String queryPath;
+
+    @Label("Identifiers")
+    @Description("Number of requested identifiers, -1 if not applicable")
+    int identifierCount;
+
+    @Label("Rows")
+    @Description("Number of rows returned or written")
+    long rowCount;
+}
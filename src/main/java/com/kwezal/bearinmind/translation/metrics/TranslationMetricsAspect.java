@@ -0,0 +1,223 @@
+package com.kwezal.bearinmind.translation.metrics;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.dto.TranslationChangesDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records Micrometer metrics of every public {@link com.kwezal.bearinmind.translation.service.TranslationService} method.
+ * <ul>
+ *     <li>{@code translation.service} - duration of a call</li>
+ *     <li>{@code translation.service.batch.size} - number of identifiers requested at once</li>
+ *     <li>{@code translation.service.rows.written} - number of translations saved or deleted by a call</li>
+ *     <li>{@code translation.service.not.found} - number of calls that did not find a requested translation</li>
+ * </ul>
+ * All metrics are tagged with the method name ({@code operation}) and with {@code locale} being
+ * {@code default}, {@code non-default} or {@code none} when the method does not take a locale.
+ * <p>
+ * Calls lasting longer than a threshold are also recorded as {@link TranslationEvent} Java Flight Recorder events.
+ * Resolved texts are counted by {@link TranslationResolvedTextCounter}, as they are also returned from caches.
+ */
+@Aspect
+@Component
+public class TranslationMetricsAspect {
+
+    public static final String SERVICE_METRIC = "translation.service";
+    public static final String BATCH_SIZE_METRIC = "translation.service.batch.size";
+    public static final String ROWS_WRITTEN_METRIC = "translation.service.rows.written";
+    public static final String NOT_FOUND_METRIC = "translation.service.not.found";
+
+    private static final String LOCALE_PARAMETER = "locale";
+    private static final String IDENTIFIERS_PARAMETER = "identifiers";
+    private static final String NO_LOCALE = "none";
+
+    private final ThreadLocal<Operation> currentOperation = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final String applicationLocale;
+
+    public TranslationMetricsAspect(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${application.locale}") final String applicationLocale
+    ) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.applicationLocale = applicationLocale;
+    }
+
+    @Pointcut("this(com.kwezal.bearinmind.translation.repository.TranslationRepository)")
+    void translationRepository() {}
+
+    @Around("execution(public * com.kwezal.bearinmind.translation.service.TranslationService.*(..))")
+    public Object measureServiceCall(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (nonNull(currentOperation.get())) {
+            return joinPoint.proceed();
+        }
+
+        final var event = new TranslationEvent();
+        event.begin();
+
+        final var signature = (MethodSignature) joinPoint.getSignature();
+        final var args = joinPoint.getArgs();
+        final var locale = parameter(signature, args, LOCALE_PARAMETER);
+        final var operation = new Operation(signature.getName(), localeTag(locale));
+        final var identifierCount = parameter(signature, args, IDENTIFIERS_PARAMETER) instanceof Collection<?> identifiers
+            ? identifiers.size()
+            : -1;
+        recordBatchSize(operation, identifierCount);
+
+        currentOperation.set(operation);
+        final var sample = Timer.start(meterRegistry);
+        var exception = "none";
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (final ResourceNotFoundException e) {
+            exception = e.getClass().getSimpleName();
+            Counter
+                .builder(NOT_FOUND_METRIC)
+                .tags(operation.tags())
+                .description("Number of calls that did not find a requested translation")
+                .register(meterRegistry)
+                .increment();
+            throw e;
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            currentOperation.remove();
+            sample.stop(
+                Timer
+                    .builder(SERVICE_METRIC)
+                    .tags(operation.tags())
+                    .tag("exception", exception)
+                    .description("Duration of translation service calls")
+                    .register(meterRegistry)
+            );
+            if (operation.written) {
+                DistributionSummary
+                    .builder(ROWS_WRITTEN_METRIC)
+                    .tags(operation.tags())
+                    .description("Number of translations saved or deleted by a call")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(operation.rowsWritten);
+            }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation.name;
+                event.locale = nonNull(locale) ? locale.toString() : null;
+                event.queryPath = operation.locale;
+                event.identifierCount = identifierCount;
+                event.rowCount = operation.written ? operation.rowsWritten : rowCount(result);
+                event.commit();
+            }
+        }
+    }
+
+    @AfterReturning(
+        pointcut = "translationRepository() && (execution(* save*(..)) || execution(* delete*(..)))",
+        returning = "result"
+    )
+    public void countWrittenRows(final JoinPoint joinPoint, final Object result) {
+        final var operation = currentOperation.get();
+        if (isNull(operation)) {
+            return;
+        }
+
+        operation.written = true;
+        if (result instanceof Collection<?> rows) {
+            operation.rowsWritten += rows.size();
+        } else if (result instanceof Number rows) {
+            operation.rowsWritten += rows.longValue();
+        } else if (isNull(result) && joinPoint.getArgs().length == 1 && joinPoint.getArgs()[0] instanceof Collection<?> rows) {
+            operation.rowsWritten += rows.size();
+        } else {
+            operation.rowsWritten++;
+        }
+    }
+
+    private String localeTag(final Object locale) {
+        if (isNull(locale)) {
+            return NO_LOCALE;
+        }
+
+        return applicationLocale.equals(locale) ? "default" : "non-default";
+    }
+
+    private void recordBatchSize(final Operation operation, final int identifierCount) {
+        if (identifierCount >= 0) {
+            DistributionSummary
+                .builder(BATCH_SIZE_METRIC)
+                .tags(operation.tags())
+                .description("Number of identifiers requested at once")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(identifierCount);
+        }
+    }
+
+    private static Object parameter(final MethodSignature signature, final Object[] args, final String name) {
+        final var names = signature.getParameterNames();
+        if (isNull(names)) {
+            return null;
+        }
+
+        for (int i = 0; i < names.length; i++) {
+            if (name.equals(names[i])) {
+                return args[i];
+            }
+        }
+        return null;
+    }
+
+    private static long rowCount(final Object result) {
+        if (isNull(result)) {
+            return 0;
+        } else if (result instanceof Collection<?> rows) {
+            return rows.size();
+        } else if (result instanceof Map<?, ?> rows) {
+            return rows.size();
+        } else if (result instanceof TranslationChangesDto changes) {
+            return changes.upserts().size() + changes.deletions().size();
+        }
+        return 1;
+    }
+
+    private static final class Operation {
+
+        private final String name;
+        private final String locale;
+        private boolean written;
+        private long rowsWritten;
+
+        private Operation(final String name, final String locale) {
+            this.name = name;
+            this.locale = locale;
+        }
+
+        private String[] tags() {
+            return new String[] { "operation", name, LOCALE_PARAMETER, locale };
+        }
+    }
+}
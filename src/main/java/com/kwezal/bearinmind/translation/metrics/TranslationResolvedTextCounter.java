@@ -0,0 +1,72 @@
+package com.kwezal.bearinmind.translation.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts texts resolved for a requested locale by the {@code translation.service.resolved} metric,
+ * with {@code fallback=true} when the text had to be taken from the application locale.
+ * <p>
+ * Texts are counted where they are returned, whether they were loaded from the database or found in a cache,
+ * so the counter is tagged with the name of the method returning them ({@code operation})
+ * and with {@code locale} being {@code default} or {@code non-default}.
+ */
+@Component
+public class TranslationResolvedTextCounter {
+
+    public static final String RESOLVED_METRIC = "translation.service.resolved";
+
+    private final MeterRegistry meterRegistry;
+    private final String applicationLocale;
+
+    public TranslationResolvedTextCounter(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${application.locale}") final String applicationLocale
+    ) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.applicationLocale = applicationLocale;
+    }
+
+    /**
+     * Counts a single resolved text.
+     *
+     * @param operation  name of the method returning the text
+     * @param locale     requested locale
+     * @param textLocale locale the text is defined in
+     */
+    public void count(final String operation, final String locale, final String textLocale) {
+        final var isFallback = !locale.equals(textLocale);
+        count(operation, locale, isFallback ? 0 : 1, isFallback ? 1 : 0);
+    }
+
+    /**
+     * Counts texts resolved at once.
+     *
+     * @param operation name of the method returning the texts
+     * @param locale    requested locale
+     * @param direct    number of texts defined in the requested locale
+     * @param fallbacks number of texts taken from the application locale
+     */
+    public void count(final String operation, final String locale, final long direct, final long fallbacks) {
+        if (direct > 0) {
+            counter(operation, locale, false).increment(direct);
+        }
+        if (fallbacks > 0) {
+            counter(operation, locale, true).increment(fallbacks);
+        }
+    }
+
+    private Counter counter(final String operation, final String locale, final boolean fallback) {
+        return Counter
+            .builder(RESOLVED_METRIC)
+            .tag("operation", operation)
+            .tag("locale", applicationLocale.equals(locale) ? "default" : "non-default")
+            .tag("fallback", String.valueOf(fallback))
+            .description("Number of texts resolved for a requested locale")
+            .register(meterRegistry);
+    }
+}
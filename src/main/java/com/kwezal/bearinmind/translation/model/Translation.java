@@ -29,4 +29,8 @@ public class Translation {
 
     @Column(nullable = false)
     String text;
+
+    @Column(nullable = false)
+    @GeneratorType(type = TranslationVersionGenerator.class, when = GenerationTime.ALWAYS)
+    Long version;
 }
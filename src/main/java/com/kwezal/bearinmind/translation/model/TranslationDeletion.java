@@ -0,0 +1,35 @@
+package com.kwezal.bearinmind.translation.model;
+
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tombstone of a deleted translation, kept so that mirroring clients can learn about the deletion.
+ */
+@Entity
+@Table(name = "translation_deletions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(nullable = false)
+    Integer identifier;
+
+    @Column(nullable = false)
+    String locale;
+
+    /**
+     * Change version assigned by the database default, so that inserting a tombstone takes a single statement.
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    Long version;
+}
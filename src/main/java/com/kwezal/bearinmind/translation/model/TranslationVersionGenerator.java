@@ -0,0 +1,46 @@
+package com.kwezal.bearinmind.translation.model;
+
+import static java.util.Objects.nonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.tuple.ValueGenerator;
+
+/**
+ * Generates change versions identifying the writing transaction, so that all changes made by a transaction
+ * have the same version and versions of transactions still in progress can be told apart from committed ones.
+ * The version is read from the database once per transaction and reused for all rows it writes.
+ */
+public class TranslationVersionGenerator implements ValueGenerator<Long> {
+
+    private final Map<Session, Long> transactionVersions = new ConcurrentHashMap<>();
+
+    @Override
+    public Long generateValue(Session session, Object o) {
+        final var version = transactionVersions.get(session);
+        if (nonNull(version)) {
+            return version;
+        }
+
+        final var transactionVersion = findTransactionVersion(session);
+        transactionVersions.put(session, transactionVersion);
+        final var actionQueue = ((SessionImplementor) session).getActionQueue();
+        actionQueue.registerProcess((success, completedSession) -> transactionVersions.remove(session));
+        return transactionVersion;
+    }
+
+    private static long findTransactionVersion(final Session session) {
+        // Not a query of the session, which would start an auto flush nested in the flush of an updated translation
+        return session.doReturningWork(connection -> {
+            try (
+                final var statement = connection.prepareStatement("SELECT translation_version()");
+                final var resultSet = statement.executeQuery()
+            ) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+    }
+}
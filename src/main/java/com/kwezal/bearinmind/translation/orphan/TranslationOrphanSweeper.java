@@ -0,0 +1,196 @@
+package com.kwezal.bearinmind.translation.orphan;
+
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically deletes translations that are not referenced according to any {@link TranslationReferenceProvider}.
+ * <ul>
+ *     <li>Translations created or updated since the previous sweep are never deleted,
+ *     so that a translation created just before the entity referencing it is kept.
+ *     Therefore, the first sweep after startup deletes nothing.</li>
+ *     <li>Translations are deleted in small batches with a delay between them.
+ *     A batch that fails because the translations are locked or the database is busy is retried with an increasing delay.</li>
+ *     <li>In the dry-run mode, translations are only counted.</li>
+ *     <li>Nothing is deleted if there are no reference providers.</li>
+ * </ul>
+ * The number of deleted translations in all locales is counted by the {@code translation.orphans.reclaimed} metric.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression(
+    "${application.translation.orphan-sweeper.enabled:false} and !${application.translation.tenancy.enabled:false}"
+)
+public class TranslationOrphanSweeper implements SmartLifecycle {
+
+    static final String RECLAIMED_METRIC = "translation.orphans.reclaimed";
+
+    private final TranslationService translationService;
+    private final ObjectProvider<TranslationReferenceProvider> referenceProviders;
+    private final MeterRegistry meterRegistry;
+    private final Duration interval;
+    private final int batchSize;
+    private final Duration batchDelay;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final boolean isDryRun;
+
+    private final Object sweepLock = new Object();
+    private long previousVersion = -1;
+    private ScheduledExecutorService executor;
+
+    public TranslationOrphanSweeper(
+        final TranslationService translationService,
+        final ObjectProvider<TranslationReferenceProvider> referenceProviders,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${application.translation.orphan-sweeper.interval:1h}") final Duration interval,
+        @Value("${application.translation.orphan-sweeper.batch-size:100}") final int batchSize,
+        @Value("${application.translation.orphan-sweeper.batch-delay:200ms}") final Duration batchDelay,
+        @Value("${application.translation.orphan-sweeper.max-backoff:1m}") final Duration maxBackoff,
+        @Value("${application.translation.orphan-sweeper.max-attempts:5}") final int maxAttempts,
+        @Value("${application.translation.orphan-sweeper.dry-run:false}") final boolean isDryRun
+    ) {
+        this.translationService = translationService;
+        this.referenceProviders = referenceProviders;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.batchDelay = batchDelay;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "translation-orphan-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.scheduleWithFixedDelay(this::sweepSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return nonNull(executor);
+    }
+
+    /**
+     * Deletes (or counts in the dry-run mode) translations that are not referenced
+     * and have not been changed since the previous sweep.
+     *
+     * @return number of deleted (or counted) translations in all locales
+     * @throws InterruptedException if the thread is interrupted while waiting between batches
+     */
+    public long sweep() throws InterruptedException {
+        // Sweeps must not overlap, or a sweep would use the version read by the other one just before
+        synchronized (sweepLock) {
+            final var guardVersion = previousVersion;
+            previousVersion = translationService.findLatestVersion();
+            return sweep(guardVersion);
+        }
+    }
+
+    private long sweep(final long guardVersion) throws InterruptedException {
+        if (guardVersion < 0) {
+            return 0;
+        }
+
+        final var providers = referenceProviders.orderedStream().toList();
+        if (providers.isEmpty()) {
+            log.warn("No translation reference providers, orphaned translations are not deleted");
+            return 0;
+        }
+
+        final var referencedIdentifiers = new BitSet();
+        providers.forEach(provider ->
+            provider
+                .findReferencedIdentifiers()
+                .forEach(identifier -> {
+                    if (nonNull(identifier) && identifier >= 0) {
+                        referencedIdentifiers.set(identifier);
+                    }
+                })
+        );
+
+        var reclaimedCount = 0L;
+        Integer afterIdentifier = null;
+        while (true) {
+            final var identifiers = translationService.findIdentifiersUnchangedSince(afterIdentifier, guardVersion, batchSize);
+            if (identifiers.isEmpty()) {
+                break;
+            }
+
+            afterIdentifier = identifiers.get(identifiers.size() - 1);
+            // Negative identifiers cannot be reported, so they are never considered orphaned
+            final var orphanedIdentifiers = identifiers
+                .stream()
+                .filter(identifier -> identifier >= 0 && !referencedIdentifiers.get(identifier))
+                .toList();
+            if (!orphanedIdentifiers.isEmpty()) {
+                final var count = reclaim(orphanedIdentifiers, guardVersion);
+                meterRegistry.counter(RECLAIMED_METRIC, "dry-run", Boolean.toString(isDryRun)).increment(count);
+                reclaimedCount += count;
+                Thread.sleep(batchDelay.toMillis());
+            }
+        }
+
+        log.info("{} {} orphaned translations", isDryRun ? "Found" : "Deleted", reclaimedCount);
+        return reclaimedCount;
+    }
+
+    private long reclaim(final List<Integer> identifiers, final long guardVersion) throws InterruptedException {
+        var delay = batchDelay;
+        for (int attempt = 1;; attempt++) {
+            try {
+                return isDryRun
+                    ? translationService.countTranslationsBy(identifiers)
+                    : translationService.deleteAllTranslationsUnchangedSince(identifiers, guardVersion);
+            } catch (TransientDataAccessException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+
+                delay = delay.multipliedBy(2).compareTo(maxBackoff) > 0 ? maxBackoff : delay.multipliedBy(2);
+                log.debug("Could not delete orphaned translations, retrying in {}", delay, e);
+                Thread.sleep(delay.toMillis());
+            }
+        }
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Could not delete orphaned translations", e);
+        }
+    }
+}
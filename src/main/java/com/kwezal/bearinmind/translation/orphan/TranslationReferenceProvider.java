@@ -0,0 +1,14 @@
+package com.kwezal.bearinmind.translation.orphan;
+
+import java.util.Collection;
+
+/**
+ * Reports translations referenced by the data of a consuming application, e.g. titles and descriptions of courses.
+ * If the orphan sweeper is enabled, translations not reported by any provider are deleted.
+ */
+public interface TranslationReferenceProvider {
+    /**
+     * @return identifiers of all referenced translations
+     */
+    Collection<Integer> findReferencedIdentifiers();
+}
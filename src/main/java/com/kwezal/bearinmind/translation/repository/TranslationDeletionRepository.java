@@ -0,0 +1,58 @@
+package com.kwezal.bearinmind.translation.repository;
+
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndVersionDto;
+import com.kwezal.bearinmind.translation.model.TranslationDeletion;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TranslationDeletionRepository extends JpaRepository<TranslationDeletion, Long> {
+    /**
+     * Finds identifiers of translations deleted in a given locale after a given change version.
+     * Translations that were deleted and then created again are omitted.
+     *
+     * @param locale  translation locale
+     * @param version change version
+     * @return list of deleted translation identifiers with the change version of the latest deletion
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndVersionDto(d.identifier, MAX(d.version))
+                    FROM TranslationDeletion d
+                    WHERE d.locale = :locale AND d.version > :version
+                    AND NOT EXISTS (SELECT t.id FROM Translation t WHERE t.identifier = d.identifier AND t.locale = d.locale)
+                    GROUP BY d.identifier"""
+    )
+    List<TranslationIdentifierAndVersionDto> findAllIdentifierAndVersionByLocaleAndVersionGreaterThan(
+        String locale,
+        Long version
+    );
+
+    /**
+     * Finds identifiers of translations deleted in any locale after a given change version.
+     *
+     * @param version change version
+     * @return translation identifiers
+     */
+    @Query(
+        """
+                    SELECT DISTINCT d.identifier
+                    FROM TranslationDeletion d
+                    WHERE d.version > :version"""
+    )
+    Set<Integer> findAllIdentifiersByVersionGreaterThan(Long version);
+
+    /**
+     * Deletes tombstones of translations deleted up to a given change version.
+     *
+     * @param version change version
+     * @return number of deleted tombstones
+     */
+    @Modifying
+    @Query("DELETE FROM TranslationDeletion d WHERE d.version <= :version")
+    int deleteAllByVersionNotGreaterThan(Long version);
+}
@@ -1,16 +1,26 @@
 package com.kwezal.bearinmind.translation.repository;
 
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.translation.dto.TranslationCopyDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndHashDto;
 import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndVersionDto;
+import com.kwezal.bearinmind.translation.dto.TranslationLocaleCountDto;
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
 import com.kwezal.bearinmind.translation.model.Translation;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TranslationRepository extends JpaRepository<Translation, Long> {
+public interface TranslationRepository extends JpaRepository<Translation, Long>, TranslationSortRepository {
     Optional<Translation> findByIdentifierAndLocale(Integer identifier, String locale);
 
     List<Translation> findAllByIdentifier(Integer identifier);
@@ -19,9 +29,208 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
 
     boolean existsByIdentifier(Integer identifier);
 
-    void deleteAllByIdentifier(Integer identifier);
+    List<Translation> deleteAllByIdentifier(Integer identifier);
 
-    void deleteByIdentifierAndLocale(Integer identifier, String locale);
+    List<Translation> deleteByIdentifierAndLocale(Integer identifier, String locale);
+
+    /**
+     * Copies translations with given identifiers in all their locales under newly allocated identifiers.
+     *
+     * @param identifiers identifiers of translations to copy
+     * @return list of copied translations in every locale, without nonexistent identifiers
+     */
+    default List<TranslationCopyDto> copyAllByIdentifiers(Collection<Integer> identifiers) {
+        return insertCopiesByIdentifiers(identifiers)
+            .stream()
+            .map(row -> new TranslationCopyDto(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), (String) row[2]))
+            .toList();
+    }
+
+    /**
+     * Copies translations with given identifiers in all their locales under newly allocated identifiers,
+     * using a single statement.
+     *
+     * @param identifiers identifiers of translations to copy
+     * @return rows of copied translation identifier, the identifier of its copy and the locale of the copied text
+     */
+    @Query(
+        value = """
+                    WITH copies AS MATERIALIZED (
+                        SELECT s.identifier AS source_identifier, nextval('translations_identifier_seq') AS identifier
+                        FROM (SELECT DISTINCT identifier FROM translations WHERE identifier IN :identifiers) s
+                    ), inserted AS (
+                        INSERT INTO translations(identifier, locale, text)
+                        SELECT c.identifier, t.locale, t.text
+                        FROM translations t
+                        JOIN copies c ON c.source_identifier = t.identifier
+                        RETURNING identifier, locale
+                    )
+                    SELECT c.source_identifier, c.identifier, i.locale
+                    FROM copies c
+                    JOIN inserted i ON i.identifier = c.identifier""",
+        nativeQuery = true
+    )
+    List<Object[]> insertCopiesByIdentifiers(Collection<Integer> identifiers);
+
+    /**
+     * Computes a hash of texts of each translation with a given identifier in all its locales.
+     * The hash is the MD5 of concatenated {@code <locale length>:<locale><text length>:<text>} entries ordered by locale,
+     * where lengths are numbers of characters, encoded in UTF-8.
+     *
+     * @param identifiers translation identifiers
+     * @return list of translation identifiers with hash, without nonexistent identifiers
+     */
+    default List<TranslationIdentifierAndHashDto> findAllIdentifierAndHashByIdentifiers(Collection<Integer> identifiers) {
+        return hashAllByIdentifiers(identifiers)
+            .stream()
+            .map(row -> new TranslationIdentifierAndHashDto(((Number) row[0]).intValue(), (String) row[1]))
+            .toList();
+    }
+
+    @Query(
+        value = """
+                    SELECT t.identifier, md5(string_agg(
+                        length(t.locale) || ':' || t.locale || length(t.text) || ':' || t.text, '' ORDER BY t.locale COLLATE "C"
+                    ))
+                    FROM translations t
+                    WHERE t.identifier IN :identifiers
+                    GROUP BY t.identifier""",
+        nativeQuery = true
+    )
+    List<Object[]> hashAllByIdentifiers(Collection<Integer> identifiers);
+
+    long countByIdentifierIn(Collection<Integer> identifiers);
+
+    /**
+     * Finds translations with given identifiers and locks them for update without waiting for locks held by others.
+     * The lock is the weakest one that conflicts with updates and deletions of the rows,
+     * so it does not block writers that only reference them by key, such as the writers of translations sharing a text
+     * stored in a dictionary, see {@code 0007_TEXT_DICTIONARY}.
+     *
+     * @param identifiers translation identifiers
+     * @return translations in all locales
+     */
+    @Query(
+        value = """
+                    SELECT t.*
+                    FROM translations t
+                    WHERE t.identifier IN :identifiers
+                    FOR NO KEY UPDATE NOWAIT""",
+        nativeQuery = true
+    )
+    List<Translation> findAllForUpdateByIdentifierIn(Collection<Integer> identifiers);
+
+    /**
+     * Finds identifiers of translations not created or updated in any locale after a given change version,
+     * ordered by identifier, starting after a given identifier.
+     *
+     * @param afterIdentifier identifier of the last translation of the previous page
+     * @param version         change version
+     * @param pageable        page size
+     * @return translation identifiers
+     */
+    @Query(
+        """
+                    SELECT t.identifier
+                    FROM Translation t
+                    WHERE t.identifier > :afterIdentifier
+                    GROUP BY t.identifier
+                    HAVING MAX(t.version) <= :version
+                    ORDER BY t.identifier"""
+    )
+    List<Integer> findAllIdentifiersByIdentifierGreaterThanAndVersionNotGreaterThan(
+        Integer afterIdentifier,
+        Long version,
+        Pageable pageable
+    );
+
+    /**
+     * Counts translations in every locale.
+     *
+     * @return list of locales with the number of translations
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationLocaleCountDto(t.locale, COUNT(t))
+                    FROM Translation t
+                    GROUP BY t.locale"""
+    )
+    List<TranslationLocaleCountDto> countAllByLocale();
+
+    /**
+     * Finds identifiers of translations that have no text in a given locale, ordered by identifier,
+     * starting after a given identifier.
+     *
+     * @param locale          translation locale
+     * @param defaultLocale   application locale
+     * @param afterIdentifier identifier of the last translation of the previous page
+     * @param pageable        page size
+     * @return translation identifiers
+     */
+    @Query(
+        """
+                    SELECT t1.identifier
+                    FROM Translation t1
+                    WHERE t1.locale = :defaultLocale AND t1.identifier > :afterIdentifier
+                    AND NOT EXISTS (SELECT t2.id FROM Translation t2 WHERE t2.identifier = t1.identifier AND t2.locale = :locale)
+                    ORDER BY t1.identifier"""
+    )
+    List<Integer> findAllIdentifiersByIdentifierGreaterThanAndLocaleMissing(
+        String locale,
+        String defaultLocale,
+        Integer afterIdentifier,
+        Pageable pageable
+    );
+
+    /**
+     * Finds the latest committed change version, lower than the version of any transaction still in progress.
+     *
+     * @return change version
+     */
+    @Query(value = "SELECT translation_committed_version()", nativeQuery = true)
+    Long findLatestVersion();
+
+    /**
+     * Limits the duration of each following statement of the current transaction,
+     * after which the statement is cancelled by the database.
+     *
+     * @param timeout PostgreSQL duration, e.g. {@code 200ms}
+     * @return set duration
+     */
+    @Query(value = "SELECT set_config('statement_timeout', :timeout, true)", nativeQuery = true)
+    String setLocalStatementTimeout(String timeout);
+
+    /**
+     * Finds identifiers of translations created or updated in any locale after a given change version.
+     *
+     * @param version change version
+     * @return translation identifiers
+     */
+    @Query(
+        """
+                    SELECT DISTINCT t.identifier
+                    FROM Translation t
+                    WHERE t.version > :version"""
+    )
+    Set<Integer> findAllIdentifiersByVersionGreaterThan(Long version);
+
+    /**
+     * Finds translations in a given locale created or updated after a given change version.
+     *
+     * @param locale  translation locale
+     * @param version change version
+     * @return list of translation identifiers with text and change version
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndVersionDto(t.identifier, t.text, t.version)
+                    FROM Translation t
+                    WHERE t.locale = :locale AND t.version > :version"""
+    )
+    List<TranslationIdentifierTextAndVersionDto> findAllIdentifierTextAndVersionByLocaleAndVersionGreaterThan(
+        String locale,
+        Long version
+    );
 
     /**
      * Finds a translation text with a given identifier in a given locale.
@@ -135,4 +344,300 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
         String locale,
         String defaultLocale
     );
+
+    /**
+     * Finds a translation text with a given identifier in a given locale.
+     * If the translation has no text in a given locale, the text in the application locale is returned.
+     *
+     * @param identifier    translation identifier
+     * @param locale        expected translation locale
+     * @param defaultLocale application locale
+     * @return translation text with the locale it is defined in
+     */
+    default Optional<TranslationTextAndLocaleDto> findTextAndLocaleByIdentifierAndLocaleOrDefaultLocale(
+        Integer identifier,
+        String locale,
+        String defaultLocale
+    ) {
+        return defaultLocale.equals(locale)
+            ? findTextAndLocaleByIdentifierAndDefaultLocale(identifier, defaultLocale)
+            : findTextAndLocaleByIdentifierAndNonDefaultLocale(identifier, locale, defaultLocale);
+    }
+
+    /**
+     * Finds a translation text with a given identifier in a given locale.
+     * The query assumes that a given locale is the application locale.
+     *
+     * @param identifier translation identifier
+     * @param locale     application locale
+     * @return translation text with the locale it is defined in
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto(t.text, t.locale)
+                    FROM Translation t
+                    WHERE t.identifier = :identifier AND t.locale = :locale"""
+    )
+    Optional<TranslationTextAndLocaleDto> findTextAndLocaleByIdentifierAndDefaultLocale(Integer identifier, String locale);
+
+    /**
+     * Finds a translation text with a given identifier in a given locale.
+     * If the translation has no text in a given locale, the text in the application locale is returned.
+     *
+     * @param identifier    translation identifier
+     * @param locale        expected translation locale
+     * @param defaultLocale application locale
+     * @return translation text with the locale it is defined in
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto(COALESCE(t2.text, t1.text), COALESCE(t2.locale, t1.locale))
+                    FROM Translation t1
+                    LEFT JOIN Translation t2 ON (t2.identifier = t1.identifier AND t2.locale = :locale)
+                    WHERE t1.identifier = :identifier AND t1.locale = :defaultLocale"""
+    )
+    Optional<TranslationTextAndLocaleDto> findTextAndLocaleByIdentifierAndNonDefaultLocale(
+        Integer identifier,
+        String locale,
+        String defaultLocale
+    );
+
+    /**
+     * Finds translation texts with a given identifiers in a given locale.
+     * If any translation has no text in a given locale, the text in the application locale is returned for this translation.
+     *
+     * @param identifiers   translation identifiers
+     * @param locale        expected translation locale
+     * @param defaultLocale application locale
+     * @return list of translation identifiers with text and the locale it is defined in
+     */
+    default List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByIdentifiersAndLocaleOrDefaultLocale(
+        Iterable<Integer> identifiers,
+        String locale,
+        String defaultLocale
+    ) {
+        return defaultLocale.equals(locale)
+            ? findAllIdentifierTextAndLocaleByIdentifiersAndDefaultLocale(identifiers, defaultLocale)
+            : findAllIdentifierTextAndLocaleByIdentifiersAndNonDefaultLocale(identifiers, locale, defaultLocale);
+    }
+
+    /**
+     * Finds translation texts with a given identifiers in a given locale.
+     * The query assumes that a given locale is the application locale.
+     *
+     * @param identifiers translation identifiers
+     * @param locale      application locale
+     * @return list of translation identifiers with text and the locale it is defined in
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto(t.identifier, t.text, t.locale)
+                    FROM Translation t
+                    WHERE t.locale = :locale AND t.identifier IN :identifiers"""
+    )
+    List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByIdentifiersAndDefaultLocale(
+        Iterable<Integer> identifiers,
+        String locale
+    );
+
+    /**
+     * Finds translation texts with a given identifiers in a given locale.
+     * If any translation has no text in a given locale, the text in the application locale is returned for this translation.
+     *
+     * @param identifiers   translation identifiers
+     * @param locale        expected translation locale
+     * @param defaultLocale application locale
+     * @return list of translation identifiers with text and the locale it is defined in
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto(t1.identifier, COALESCE(t2.text, t1.text), COALESCE(t2.locale, t1.locale))
+                    FROM Translation t1
+                    LEFT JOIN Translation t2 ON (t2.identifier = t1.identifier AND t2.locale = :locale)
+                    WHERE t1.locale = :defaultLocale AND t1.identifier IN :identifiers"""
+    )
+    List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByIdentifiersAndNonDefaultLocale(
+        Iterable<Integer> identifiers,
+        String locale,
+        String defaultLocale
+    );
+
+    /**
+     * Finds texts of translations with given identifiers in given locales, without fallback.
+     *
+     * @param identifiers translation identifiers
+     * @param locales     locales or {@code null} to find texts in all locales
+     * @return list of translation identifiers with text and locale
+     */
+    default List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByIdentifiersAndLocales(
+        Collection<Integer> identifiers,
+        Collection<String> locales
+    ) {
+        return isNull(locales)
+            ? findAllIdentifierTextAndLocaleByIdentifierIn(identifiers)
+            : findAllIdentifierTextAndLocaleByIdentifierInAndLocaleIn(identifiers, locales);
+    }
+
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto(t.identifier, t.text, t.locale)
+                    FROM Translation t
+                    WHERE t.identifier IN :identifiers"""
+    )
+    List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByIdentifierIn(Collection<Integer> identifiers);
+
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto(t.identifier, t.text, t.locale)
+                    FROM Translation t
+                    WHERE t.identifier IN :identifiers AND t.locale IN :locales"""
+    )
+    List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByIdentifierInAndLocaleIn(
+        Collection<Integer> identifiers,
+        Collection<String> locales
+    );
+
+    /**
+     * Finds texts of all translations in a given locale.
+     * If any translation has no text in a given locale, the text in the application locale is returned for this translation.
+     *
+     * @param locale        expected translation locale
+     * @param defaultLocale application locale
+     * @return list of translation identifiers with text
+     */
+    default List<TranslationIdentifierAndTextDto> findAllIdentifierAndTextByLocaleOrDefaultLocale(
+        String locale,
+        String defaultLocale
+    ) {
+        return defaultLocale.equals(locale)
+            ? findAllIdentifierAndTextByDefaultLocale(defaultLocale)
+            : findAllIdentifierAndTextByNonDefaultLocale(locale, defaultLocale);
+    }
+
+    /**
+     * Finds texts of all translations in a given locale.
+     * The query assumes that a given locale is the application locale.
+     *
+     * @param locale application locale
+     * @return list of translation identifiers with text
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto(t.identifier, t.text)
+                    FROM Translation t
+                    WHERE t.locale = :locale"""
+    )
+    List<TranslationIdentifierAndTextDto> findAllIdentifierAndTextByDefaultLocale(String locale);
+
+    /**
+     * Finds texts of all translations in a given locale.
+     * If any translation has no text in a given locale, the text in the application locale is returned for this translation.
+     *
+     * @param locale        expected translation locale
+     * @param defaultLocale application locale
+     * @return list of translation identifiers with text
+     */
+    @Query(
+        """
+                    SELECT new com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto(t1.identifier, COALESCE(t2.text, t1.text))
+                    FROM Translation t1
+                    LEFT JOIN Translation t2 ON (t2.identifier = t1.identifier AND t2.locale = :locale)
+                    WHERE t1.locale = :defaultLocale"""
+    )
+    List<TranslationIdentifierAndTextDto> findAllIdentifierAndTextByNonDefaultLocale(String locale, String defaultLocale);
+
+    /**
+     * Finds translations with a text containing a given pattern, ordered by identifier and locale,
+     * starting after a given identifier and locale.
+     * If a locale is not given, translations in all locales are searched.
+     * <p>
+     * All matching translations are found with the trigram index before they are ordered, as the planner could otherwise
+     * read translations in order of the unique index and filter them, which reads most of the table when the matches
+     * are few or all have high identifiers. The cost grows with the number of matches instead, which is why search
+     * phrases have a minimum length.
+     *
+     * @param pattern          lower case {@code LIKE} pattern with {@code \} as the escape character
+     * @param locale           translation locale or {@code null}
+     * @param afterIdentifier  identifier of the last translation of the previous page
+     * @param afterLocale      locale of the last translation of the previous page
+     * @param pageable         page size
+     * @return list of translation identifiers with text and locale
+     */
+    default List<TranslationIdentifierTextAndLocaleDto> findAllIdentifierTextAndLocaleByTextLikeAfter(
+        String pattern,
+        String locale,
+        Integer afterIdentifier,
+        String afterLocale,
+        Pageable pageable
+    ) {
+        final var rows = isNull(locale)
+            ? findAllIdentifierTextAndLocaleByTextLikeAfterInAnyLocale(pattern, afterIdentifier, afterLocale, pageable)
+            : findAllIdentifierTextAndLocaleByTextLikeAndLocaleAfter(pattern, locale, afterIdentifier, afterLocale, pageable);
+        return rows
+            .stream()
+            .map(row -> new TranslationIdentifierTextAndLocaleDto(((Number) row[0]).intValue(), (String) row[1], (String) row[2]))
+            .toList();
+    }
+
+    /**
+     * Finds translations in any locale with a text containing a given pattern, ordered by identifier and locale,
+     * starting after a given identifier and locale.
+     *
+     * @param pattern         lower case {@code LIKE} pattern with {@code \} as the escape character
+     * @param afterIdentifier identifier of the last translation of the previous page
+     * @param afterLocale     locale of the last translation of the previous page
+     * @param pageable        page size
+     * @return rows of translation identifier, text and locale
+     */
+    @Query(
+        value = """
+                    WITH matches AS MATERIALIZED (
+                        SELECT t.identifier, t.text, t.locale
+                        FROM translations t
+                        WHERE lower(t.text) LIKE :pattern ESCAPE '\\'
+                        AND (t.identifier > :afterIdentifier OR (t.identifier = :afterIdentifier AND t.locale > :afterLocale))
+                    )
+                    SELECT m.identifier, m.text, m.locale
+                    FROM matches m
+                    ORDER BY m.identifier, m.locale""",
+        nativeQuery = true
+    )
+    List<Object[]> findAllIdentifierTextAndLocaleByTextLikeAfterInAnyLocale(
+        String pattern,
+        Integer afterIdentifier,
+        String afterLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds translations in a given locale with a text containing a given pattern, ordered by identifier,
+     * starting after a given identifier and locale.
+     *
+     * @param pattern         lower case {@code LIKE} pattern with {@code \} as the escape character
+     * @param locale          translation locale
+     * @param afterIdentifier identifier of the last translation of the previous page
+     * @param afterLocale     locale of the last translation of the previous page
+     * @param pageable        page size
+     * @return rows of translation identifier, text and locale
+     */
+    @Query(
+        value = """
+                    WITH matches AS MATERIALIZED (
+                        SELECT t.identifier, t.text, t.locale
+                        FROM translations t
+                        WHERE lower(t.text) LIKE :pattern ESCAPE '\\' AND t.locale = :locale
+                        AND (t.identifier > :afterIdentifier OR (t.identifier = :afterIdentifier AND t.locale > :afterLocale))
+                    )
+                    SELECT m.identifier, m.text, m.locale
+                    FROM matches m
+                    ORDER BY m.identifier""",
+        nativeQuery = true
+    )
+    List<Object[]> findAllIdentifierTextAndLocaleByTextLikeAndLocaleAfter(
+        String pattern,
+        String locale,
+        Integer afterIdentifier,
+        String afterLocale,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,30 @@
+package com.kwezal.bearinmind.translation.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queries whose collation depends on a locale, which cannot be bound as a parameter of a declared query.
+ */
+public interface TranslationSortRepository {
+    /**
+     * Finds identifiers of translations ordered by their text in a given locale, falling back to the text in
+     * the application locale, compared according to the ICU collation of the locale.
+     * Translations with equal texts are ordered by identifier.
+     *
+     * @param identifiers   translation identifiers or {@code null} to order all translations
+     * @param locale        translation locale
+     * @param defaultLocale application locale
+     * @param offset        number of identifiers to skip
+     * @param limit         maximum number of identifiers
+     * @return translation identifiers
+     * @throws IllegalArgumentException if a given locale is not a locale
+     */
+    List<Integer> findAllIdentifiersByIdentifierInOrderByText(
+        Collection<Integer> identifiers,
+        String locale,
+        String defaultLocale,
+        int offset,
+        int limit
+    );
+}
@@ -0,0 +1,86 @@
+package com.kwezal.bearinmind.translation.repository;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.validation.LocaleValidator;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+class TranslationSortRepositoryImpl implements TranslationSortRepository {
+
+    /**
+     * Texts in the locale and fallback texts in the application locale are ordered separately and merged,
+     * so that each part can be read in order from a {@code (locale, text COLLATE ..., identifier)} index.
+     */
+    private static final String ORDER_BY_TEXT_QUERY =
+        """
+                SELECT s.identifier
+                FROM (
+                    SELECT t.identifier, t.text COLLATE "%1$s" AS sort_text
+                    FROM translations t
+                    WHERE t.locale = :locale %2$s
+                    UNION ALL
+                    SELECT d.identifier, d.text COLLATE "%1$s" AS sort_text
+                    FROM translations d
+                    WHERE d.locale = :defaultLocale %3$s
+                    AND NOT EXISTS (SELECT 1 FROM translations l WHERE l.identifier = d.identifier AND l.locale = :locale)
+                ) s
+                ORDER BY s.sort_text, s.identifier
+                LIMIT :limit OFFSET :offset""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> findAllIdentifiersByIdentifierInOrderByText(
+        final Collection<Integer> identifiers,
+        final String locale,
+        final String defaultLocale,
+        final int offset,
+        final int limit
+    ) {
+        final var hasIdentifiers = nonNull(identifiers);
+        if (hasIdentifiers && identifiers.isEmpty()) {
+            return List.of();
+        }
+
+        final var sql = ORDER_BY_TEXT_QUERY.formatted(
+            toCollation(locale),
+            hasIdentifiers ? "AND t.identifier IN (:identifiers)" : "",
+            hasIdentifiers ? "AND d.identifier IN (:identifiers)" : ""
+        );
+        final var query = entityManager
+            .createNativeQuery(sql)
+            .setParameter("locale", locale)
+            .setParameter("defaultLocale", defaultLocale)
+            .setParameter("limit", limit)
+            .setParameter("offset", offset);
+        if (hasIdentifiers) {
+            query.setParameter("identifiers", identifiers);
+        }
+
+        return ((List<Number>) query.getResultList()).stream().map(Number::intValue).toList();
+    }
+
+    /**
+     * Returns the name of the predefined PostgreSQL ICU collation of a given locale, e.g. {@code en-US-x-icu} for
+     * {@code enUS}.
+     * The name is embedded into the query, so the locale is validated first.
+     *
+     * @param locale locale
+     * @return collation name
+     * @throws IllegalArgumentException if a given value is not a locale
+     */
+    static String toCollation(final String locale) {
+        if (isNull(locale) || !LocaleValidator.isLocale(locale)) {
+            throw new IllegalArgumentException("Invalid locale: " + locale);
+        }
+
+        final var languageTag = locale.length() == 2 ? locale : locale.substring(0, 2) + "-" + locale.substring(2);
+        return languageTag + "-x-icu";
+    }
+}
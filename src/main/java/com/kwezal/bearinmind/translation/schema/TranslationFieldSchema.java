@@ -0,0 +1,117 @@
+package com.kwezal.bearinmind.translation.schema;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Named set of required and optional translation fields compiled to field indexes,
+ * so that a set of fields can be represented as a bitmask.
+ * A schema can contain at most {@value #MAX_FIELDS} fields.
+ */
+public final class TranslationFieldSchema {
+
+    public static final int MAX_FIELDS = Long.SIZE;
+
+    private final String name;
+    private final Set<String> requiredFields;
+    private final Set<String> optionalFields;
+    private final Map<String, Integer> fieldIndexes;
+    private final long requiredMask;
+
+    private TranslationFieldSchema(final String name, final Set<String> requiredFields, final Set<String> optionalFields) {
+        this.name = name;
+        this.requiredFields = requiredFields;
+        this.optionalFields = optionalFields;
+        this.fieldIndexes = new HashMap<>();
+
+        var mask = 0L;
+        for (final var field : requiredFields) {
+            mask |= 1L << index(field);
+        }
+        for (final var field : optionalFields) {
+            index(field);
+        }
+        this.requiredMask = mask;
+    }
+
+    /**
+     * Compiles a schema.
+     *
+     * @param name           schema name
+     * @param requiredFields required field names
+     * @param optionalFields optional field names
+     * @return compiled schema
+     * @throws IllegalArgumentException if a field is both required and optional or there are too many fields
+     */
+    public static TranslationFieldSchema compile(
+        final String name,
+        final Set<String> requiredFields,
+        final Set<String> optionalFields
+    ) {
+        if (requiredFields.stream().anyMatch(optionalFields::contains)) {
+            throw new IllegalArgumentException("Schema " + name + " has fields that are both required and optional");
+        }
+        if (requiredFields.size() + optionalFields.size() > MAX_FIELDS) {
+            throw new IllegalArgumentException("Schema " + name + " has more than " + MAX_FIELDS + " fields");
+        }
+
+        // Sorted sets make field indexes independent of the iteration order of the passed sets
+        return new TranslationFieldSchema(
+            name,
+            Collections.unmodifiableSet(new TreeSet<>(requiredFields)),
+            Collections.unmodifiableSet(new TreeSet<>(optionalFields))
+        );
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Set<String> requiredFields() {
+        return requiredFields;
+    }
+
+    public Set<String> optionalFields() {
+        return optionalFields;
+    }
+
+    /**
+     * Returns the bit of a given field.
+     *
+     * @param field field name
+     * @return field bit or {@code 0} if the field is not a part of the schema
+     */
+    public long bit(final String field) {
+        final var index = fieldIndexes.get(field);
+        return isNull(index) ? 0 : 1L << index;
+    }
+
+    /**
+     * @return mask of all required fields
+     */
+    public long requiredMask() {
+        return requiredMask;
+    }
+
+    /**
+     * Checks whether the schema has the same fields as given sets.
+     *
+     * @param requiredFields required field names
+     * @param optionalFields optional field names
+     * @return {@code true} if the fields are the same
+     */
+    public boolean hasFields(final Set<String> requiredFields, final Set<String> optionalFields) {
+        return this.requiredFields.equals(requiredFields) && this.optionalFields.equals(optionalFields);
+    }
+
+    private int index(final String field) {
+        final var index = fieldIndexes.size();
+        fieldIndexes.put(field, index);
+        return index;
+    }
+}
@@ -0,0 +1,58 @@
+package com.kwezal.bearinmind.translation.schema;
+
+import static java.util.Objects.isNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of named translation field schemas, which are compiled once and validated against without
+ * passing the sets of fields with every call.
+ */
+@Component
+public class TranslationFieldSchemaRegistry {
+
+    private final Map<String, TranslationFieldSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a schema. Registering the same schema again returns the already registered one.
+     *
+     * @param name           schema name
+     * @param requiredFields required field names
+     * @param optionalFields optional field names
+     * @return compiled schema
+     * @throws IllegalArgumentException if a schema with a given name but different fields is already registered
+     *                                  or the fields cannot be compiled
+     */
+    public TranslationFieldSchema register(
+        final String name,
+        final Set<String> requiredFields,
+        final Set<String> optionalFields
+    ) {
+        final var schema = schemas.computeIfAbsent(
+            name,
+            schemaName -> TranslationFieldSchema.compile(schemaName, requiredFields, optionalFields)
+        );
+        if (!schema.hasFields(requiredFields, optionalFields)) {
+            throw new IllegalArgumentException("Schema " + name + " is already registered with different fields");
+        }
+        return schema;
+    }
+
+    /**
+     * Finds a registered schema.
+     *
+     * @param name schema name
+     * @return compiled schema
+     * @throws IllegalArgumentException if there is no schema with a given name
+     */
+    public TranslationFieldSchema find(final String name) {
+        final var schema = schemas.get(name);
+        if (isNull(schema)) {
+            throw new IllegalArgumentException("Schema " + name + " is not registered");
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,171 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.translation.bundle.TranslationBundle;
+import com.kwezal.bearinmind.translation.dto.TranslationChangesDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class TranslationBundleService {
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Value("${application.translation.bundle.directory:${java.io.tmpdir}/bear-in-mind-translations/bundles}")
+    private Path directory;
+
+    @Value("${application.translation.bundle.refresh-interval:5s}")
+    private Duration refreshInterval;
+
+    private final TranslationService translationService;
+    private final TranslationValidationService translationValidationService;
+    private final ObjectProvider<TranslationTenancy> tenancy;
+
+    private final Map<BundleKey, LocaleBundle> bundles = new ConcurrentHashMap<>();
+
+    /**
+     * Finds a bundle of all translations in a given locale, with the application locale fallback resolved.
+     * The bundle is built on first use, reusing a bundle file left by a previous run if there is one,
+     * and then updated with the translations changed since it was built, at most once per refresh interval.
+     * With multi-tenancy, each tenant schema has its own bundles, kept in a subdirectory named after the schema.
+     *
+     * @param locale locale
+     * @return translation bundle
+     * @throws InvalidRequestDataException if a given value is not a locale
+     */
+    public TranslationBundle findBundle(final String locale) {
+        translationValidationService.validateLocale(locale);
+
+        final var bundleKey = new BundleKey(currentSchema(), locale);
+        final var localeBundle = bundles.computeIfAbsent(bundleKey, key -> new LocaleBundle());
+        if (localeBundle.isRefreshDue(refreshInterval)) {
+            synchronized (localeBundle) {
+                if (localeBundle.isRefreshDue(refreshInterval)) {
+                    localeBundle.bundle = isNull(localeBundle.bundle)
+                        ? loadBundle(bundleKey)
+                        : updateBundle(bundleKey, localeBundle.bundle);
+                    localeBundle.refreshedAt = System.nanoTime();
+                }
+            }
+        }
+
+        return localeBundle.bundle;
+    }
+
+    private TranslationBundle loadBundle(final BundleKey bundleKey) {
+        final var locale = bundleKey.locale();
+        final var path = bundlePath(bundleKey);
+        final var version = translationService.findLatestVersion();
+        if (Files.exists(path)) {
+            try {
+                final var bundle = TranslationBundle.read(path, locale);
+                // A bundle newer than the database, e.g. after a database restore, cannot be updated incrementally
+                if (bundle.version() <= version) {
+                    return updateBundle(bundleKey, bundle);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Could not read translation bundle {}, rebuilding it", path, e);
+            }
+        }
+
+        final var texts = translationService.findAllIdentifierAndTextByLocale(locale);
+        return writeBundle(path, locale, version, new TreeMap<>(texts));
+    }
+
+    private TranslationBundle updateBundle(final BundleKey bundleKey, final TranslationBundle bundle) {
+        final var locale = bundle.locale();
+        final var changes = translationService.findChangesSince(bundle.version(), locale);
+        // Changes in the application locale affect the fallback texts
+        final var applicationLocaleChanges = applicationLocale.equals(locale)
+            ? changes
+            : translationService.findChangesSince(bundle.version(), applicationLocale);
+
+        final var changedIdentifiers = new HashSet<Integer>();
+        addChangedIdentifiers(changes, changedIdentifiers);
+        addChangedIdentifiers(applicationLocaleChanges, changedIdentifiers);
+        if (changedIdentifiers.isEmpty()) {
+            return bundle;
+        }
+
+        final var changedTexts = translationService.findAllIdentifierAndTextByIdentifiersAndLocale(changedIdentifiers, locale);
+        final var texts = bundle.toMap();
+        for (final var identifier : changedIdentifiers) {
+            final var text = changedTexts.get(identifier);
+            if (isNull(text)) {
+                texts.remove(identifier);
+            } else {
+                texts.put(identifier, text);
+            }
+        }
+
+        // Changes committed between the two calls are covered only by the later version, so the lower one is kept
+        final var version = Math.min(changes.version(), applicationLocaleChanges.version());
+        return writeBundle(bundlePath(bundleKey), locale, version, texts);
+    }
+
+    private void addChangedIdentifiers(final TranslationChangesDto changes, final Set<Integer> identifiers) {
+        changes.upserts().stream().map(TranslationIdentifierAndTextDto::identifier).forEach(identifiers::add);
+        identifiers.addAll(changes.deletions());
+    }
+
+    private TranslationBundle writeBundle(
+        final Path path,
+        final String locale,
+        final long version,
+        final SortedMap<Integer, String> texts
+    ) {
+        try {
+            return TranslationBundle.write(path, locale, version, texts);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path bundlePath(final BundleKey bundleKey) {
+        final var schemaDirectory = isNull(bundleKey.schema()) ? directory : directory.resolve(bundleKey.schema());
+        return schemaDirectory.resolve(bundleKey.locale() + ".bundle");
+    }
+
+    /**
+     * @return schema of the current tenant or {@code null} if multi-tenancy is disabled
+     */
+    private String currentSchema() {
+        final var currentTenancy = tenancy.getIfAvailable();
+        return isNull(currentTenancy) ? null : currentTenancy.currentSchema();
+    }
+
+    private record BundleKey(String schema, String locale) {}
+
+    private static class LocaleBundle {
+
+        private volatile TranslationBundle bundle;
+        private volatile long refreshedAt;
+
+        private boolean isRefreshDue(final Duration refreshInterval) {
+            return isNull(bundle) || System.nanoTime() - refreshedAt >= refreshInterval.toNanos();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.cache.TranslationCache;
+import com.kwezal.bearinmind.translation.cache.TranslationCacheSnapshot;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the translation cache consistent with changes made by other application instances,
+ * by periodically evicting translations changed since the last synchronization.
+ * <p>
+ * If a snapshot path is configured, the cache is also written to a snapshot file periodically and on shutdown,
+ * and loaded from it on startup, so that only translations changed since the snapshot have to be evicted.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnExpression("${application.translation.cache.enabled:false} and !${application.translation.tenancy.enabled:false}")
+public class TranslationCacheSynchronizer implements SmartLifecycle {
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Value("${application.translation.cache.sync-interval:10s}")
+    private Duration syncInterval;
+
+    @Value("${application.translation.cache.snapshot.path:#{null}}")
+    private Path snapshotPath;
+
+    @Value("${application.translation.cache.snapshot.interval:5m}")
+    private Duration snapshotInterval;
+
+    private final TranslationService translationService;
+    private final TranslationCache translationCache;
+
+    private volatile long syncedVersion = -1;
+    private ScheduledExecutorService executor;
+
+    @Override
+    public synchronized void start() {
+        syncedVersion = translationService.findLatestVersion();
+        if (nonNull(snapshotPath)) {
+            loadSnapshot();
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "translation-cache-synchronizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(
+            this::synchronizeSafely,
+            syncInterval.toMillis(),
+            syncInterval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+        if (nonNull(snapshotPath) && !snapshotInterval.isZero()) {
+            executor.scheduleWithFixedDelay(
+                this::writeSnapshotSafely,
+                snapshotInterval.toMillis(),
+                snapshotInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (isNull(executor)) {
+            return;
+        }
+
+        executor.shutdownNow();
+        executor = null;
+        if (nonNull(snapshotPath)) {
+            writeSnapshotSafely();
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return nonNull(executor);
+    }
+
+    /**
+     * Evicts translations changed since the last synchronization from the cache.
+     */
+    public synchronized void synchronize() {
+        // The latest committed version is read first, so that changes committed in the meantime,
+        // including those of transactions started earlier, are evicted again next time
+        final var latestVersion = translationService.findLatestVersion();
+        final var changedIdentifiers = translationService.findChangedIdentifiersSince(syncedVersion);
+        if (!changedIdentifiers.isEmpty()) {
+            translationCache.evict(changedIdentifiers);
+        }
+        syncedVersion = latestVersion;
+    }
+
+    /**
+     * Writes the cache to the snapshot file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void writeSnapshot() throws IOException {
+        if (isNull(snapshotPath)) {
+            throw new IllegalStateException("Translation cache snapshot path is not configured");
+        }
+
+        TranslationCacheSnapshot.write(snapshotPath, applicationLocale, syncedVersion, translationCache);
+    }
+
+    private void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+
+        final var generation = translationCache.generation();
+        try {
+            final var version = TranslationCacheSnapshot.read(
+                snapshotPath,
+                applicationLocale,
+                (identifier, locale, text) -> translationCache.put(identifier, locale, text, generation)
+            );
+
+            // A snapshot newer than the database, e.g. after a database restore, cannot be reconciled
+            if (version > syncedVersion) {
+                throw new IllegalArgumentException("Translation cache snapshot is newer than the database");
+            }
+
+            syncedVersion = version;
+            synchronize();
+            log.info("Loaded translation cache snapshot {} at version {}", snapshotPath, version);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not load translation cache snapshot {}", snapshotPath, e);
+            translationCache.clear();
+        }
+    }
+
+    private void synchronizeSafely() {
+        try {
+            synchronize();
+        } catch (RuntimeException e) {
+            log.warn("Could not synchronize translation cache", e);
+        }
+    }
+
+    private void writeSnapshotSafely() {
+        try {
+            writeSnapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write translation cache snapshot {}", snapshotPath, e);
+        }
+    }
+}
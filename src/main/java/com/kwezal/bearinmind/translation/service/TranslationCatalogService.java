@@ -0,0 +1,78 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static com.kwezal.bearinmind.translation.exception.ErrorCode.INVALID_CATALOG_KEY;
+
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.translation.dto.TranslationSyncSummaryDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Synchronises translations with a catalog of their desired texts, e.g. UI texts kept in version control.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TranslationCatalogService {
+
+    private static final Pattern KEY = Pattern.compile("(-?\\d+)\\.(\\w+)");
+
+    private final TranslationService translationService;
+
+    /**
+     * Synchronises translations with a catalog in the properties format, read as UTF-8.
+     * Each key consists of a translation identifier and a locale separated by a dot, e.g. {@code -12.en=Save}.
+     * All texts of a translation have to be in the same catalog, since texts in locales missing from it are deleted.
+     *
+     * @param catalog catalog stream, not closed by this method
+     * @return numbers of changed translations and texts
+     * @throws InvalidRequestDataException if a key is invalid, or a translation has no text in the application locale
+     * @see TranslationService#syncTranslations(Map)
+     */
+    public TranslationSyncSummaryDto syncProperties(final InputStream catalog) {
+        final var properties = new Properties();
+        try {
+            properties.load(new InputStreamReader(catalog, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var identifierLocaleTexts = new HashMap<Integer, Map<String, String>>();
+        properties.forEach((key, text) -> {
+            final var matcher = KEY.matcher((String) key);
+            if (!matcher.matches()) {
+                throw invalidCatalogKey(key);
+            }
+
+            final Integer identifier;
+            try {
+                identifier = Integer.valueOf(matcher.group(1));
+            } catch (NumberFormatException e) {
+                // The identifier has too many digits for an integer
+                throw invalidCatalogKey(key);
+            }
+
+            identifierLocaleTexts
+                .computeIfAbsent(identifier, newIdentifier -> new HashMap<>())
+                .put(matcher.group(2), (String) text);
+        });
+
+        final var summary = translationService.syncTranslations(identifierLocaleTexts);
+        log.info("Synchronised translation catalog: {}", summary);
+        return summary;
+    }
+
+    private static InvalidRequestDataException invalidCatalogKey(final Object key) {
+        return new InvalidRequestDataException(String.class, Map.of("key", key), INVALID_CATALOG_KEY);
+    }
+}
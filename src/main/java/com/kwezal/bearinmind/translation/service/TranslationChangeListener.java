@@ -0,0 +1,21 @@
+package com.kwezal.bearinmind.translation.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Callback notified after a transaction that changed translations has been committed.
+ */
+public interface TranslationChangeListener {
+    /**
+     * @param identifiers identifiers of translations created, updated or deleted in any locale
+     */
+    default void onTranslationsChanged(Set<Integer> identifiers) {}
+
+    /**
+     * Called after {@link #onTranslationsChanged} if translations were created or deleted.
+     *
+     * @param localeCountChanges mapping of locale to the change of the number of translations in this locale
+     */
+    default void onTranslationCountsChanged(Map<String, Long> localeCountChanges) {}
+}
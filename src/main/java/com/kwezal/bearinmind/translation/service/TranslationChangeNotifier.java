@@ -0,0 +1,187 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndLocaleDto;
+import com.kwezal.bearinmind.translation.event.TranslationChange;
+import com.kwezal.bearinmind.translation.event.TranslationChangeEvent;
+import com.kwezal.bearinmind.translation.event.TranslationChangeType;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class TranslationChangeNotifier {
+
+    private final ObjectProvider<TranslationChangeListener> translationChangeListeners;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectProvider<TranslationTenancy> tenancy;
+
+    /**
+     * Collects changes of translation texts.
+     * Within a transaction, the listeners are notified and a {@link TranslationChangeEvent} is published once,
+     * after the transaction has been committed.
+     * Without a transaction, they are notified immediately.
+     *
+     * @param changes changes of translation texts
+     */
+    void translationsChanged(final Collection<TranslationChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        final var pendingChanges = currentChanges();
+        if (isNull(pendingChanges)) {
+            final var immediateChanges = new Changes(currentSchema());
+            changes.forEach(immediateChanges::add);
+            notifyListeners(immediateChanges);
+            return;
+        }
+
+        changes.forEach(pendingChanges::add);
+    }
+
+    /**
+     * @return changes collected in the current transaction or {@code null} if there is no transaction
+     */
+    private Changes currentChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        var changes = (Changes) TransactionSynchronizationManager.getResource(this);
+        if (isNull(changes)) {
+            changes = new Changes(currentSchema());
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new ChangeSynchronization(changes));
+        }
+        return changes;
+    }
+
+    /**
+     * @return schema of the current tenant or {@code null} if multi-tenancy is disabled
+     */
+    private String currentSchema() {
+        final var currentTenancy = tenancy.getIfAvailable();
+        return isNull(currentTenancy) ? null : currentTenancy.currentSchema();
+    }
+
+    private void notifyListeners(final Changes changes) {
+        final var textChanges = changes.toList();
+        if (textChanges.isEmpty()) {
+            return;
+        }
+
+        final var identifiers = new HashSet<Integer>();
+        final var localeCountChanges = new HashMap<String, Long>();
+        textChanges.forEach(change -> {
+            identifiers.add(change.identifier());
+            switch (change.type()) {
+                case CREATED -> localeCountChanges.merge(change.locale(), 1L, Long::sum);
+                case DELETED -> localeCountChanges.merge(change.locale(), -1L, Long::sum);
+                default -> {}
+            }
+        });
+        localeCountChanges.values().removeIf(countChange -> countChange == 0);
+
+        final var unmodifiableIdentifiers = Set.copyOf(identifiers);
+        final var unmodifiableLocaleCountChanges = Map.copyOf(localeCountChanges);
+        translationChangeListeners
+            .orderedStream()
+            .forEach(listener -> {
+                try {
+                    listener.onTranslationsChanged(unmodifiableIdentifiers);
+                    if (!unmodifiableLocaleCountChanges.isEmpty()) {
+                        listener.onTranslationCountsChanged(unmodifiableLocaleCountChanges);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Translation change listener {} failed", listener, e);
+                }
+            });
+
+        try {
+            applicationEventPublisher.publishEvent(new TranslationChangeEvent(textChanges, changes.schema));
+        } catch (RuntimeException e) {
+            log.error("Translation change event listener failed", e);
+        }
+    }
+
+    /**
+     * Net changes of texts made in a transaction, keyed by translation identifier and locale,
+     * in the schema of the tenant that started making them.
+     */
+    private static class Changes {
+
+        private final String schema;
+        private final Map<TranslationIdentifierAndLocaleDto, TranslationChangeType> types = new LinkedHashMap<>();
+
+        private Changes(final String schema) {
+            this.schema = schema;
+        }
+
+        private void add(final TranslationChange change) {
+            final var key = new TranslationIdentifierAndLocaleDto(change.identifier(), change.locale());
+            final var previousType = types.get(key);
+            final var type = isNull(previousType) ? change.type() : merge(previousType, change.type());
+            if (isNull(type)) {
+                types.remove(key);
+            } else {
+                types.put(key, type);
+            }
+        }
+
+        /**
+         * @return type of two successive changes of the same text or {@code null} if they cancel each other out
+         */
+        private static TranslationChangeType merge(final TranslationChangeType first, final TranslationChangeType second) {
+            return switch (first) {
+                case CREATED -> second == TranslationChangeType.DELETED ? null : TranslationChangeType.CREATED;
+                case UPDATED -> second;
+                case DELETED -> second == TranslationChangeType.DELETED
+                    ? TranslationChangeType.DELETED
+                    : TranslationChangeType.UPDATED;
+            };
+        }
+
+        private List<TranslationChange> toList() {
+            return types
+                .entrySet()
+                .stream()
+                .map(entry -> new TranslationChange(entry.getKey().identifier(), entry.getKey().locale(), entry.getValue()))
+                .toList();
+        }
+    }
+
+    private class ChangeSynchronization implements TransactionSynchronization {
+
+        private final Changes changes;
+
+        private ChangeSynchronization(final Changes changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void afterCommit() {
+            notifyListeners(changes);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TranslationChangeNotifier.this);
+        }
+    }
+}
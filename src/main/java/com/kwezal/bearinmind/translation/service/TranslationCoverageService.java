@@ -0,0 +1,172 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.dto.TranslationCoverageDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the number of translations in every locale in memory, so that coverage can be read without querying the database.
+ * <p>
+ * Counts are loaded on startup and updated after changes made through the {@link TranslationService} of the same
+ * application instance have been committed.
+ * Changes made by other instances or directly in the database are picked up by a full recount,
+ * run periodically and on demand.
+ */
+@Slf4j
+@Service
+@ConditionalOnExpression(
+    "${application.translation.coverage.enabled:false} and !${application.translation.tenancy.enabled:false}"
+)
+public class TranslationCoverageService implements TranslationChangeListener, SmartLifecycle {
+
+    private final TranslationService translationService;
+    private final String applicationLocale;
+    private final Duration reconcileInterval;
+    private final Object reconcileLock = new Object();
+
+    private Map<String, Long> localeCounts = new HashMap<>();
+    private List<Map<String, Long>> changesDuringReconciliation;
+    private ScheduledExecutorService executor;
+
+    public TranslationCoverageService(
+        final TranslationService translationService,
+        @Value("${application.locale}") final String applicationLocale,
+        @Value("${application.translation.coverage.reconcile-interval:1h}") final Duration reconcileInterval
+    ) {
+        this.translationService = translationService;
+        this.applicationLocale = applicationLocale;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    /**
+     * Finds coverage of every locale with at least one translation.
+     *
+     * @return coverage of locales ordered by locale
+     */
+    public synchronized List<TranslationCoverageDto> findCoverage() {
+        final var translationCount = localeCounts.getOrDefault(applicationLocale, 0L);
+        return localeCounts
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+            .map(entry -> new TranslationCoverageDto(entry.getKey(), entry.getValue(), translationCount))
+            .toList();
+    }
+
+    /**
+     * Finds coverage of a given locale.
+     *
+     * @param locale locale
+     * @return coverage of the locale
+     */
+    public synchronized TranslationCoverageDto findCoverage(final String locale) {
+        return new TranslationCoverageDto(
+            locale,
+            localeCounts.getOrDefault(locale, 0L),
+            localeCounts.getOrDefault(applicationLocale, 0L)
+        );
+    }
+
+    /**
+     * Replaces the counts with a full recount.
+     * Changes reported while counting are applied on top of it.
+     * Reconciliations run one at a time, as they share the list of changes reported while counting.
+     */
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (this) {
+                changesDuringReconciliation = new ArrayList<>();
+            }
+
+            final Map<String, Long> recount;
+            try {
+                recount = new HashMap<>(translationService.countTranslationsByLocale());
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReconciliation = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                // A change committed before counting may be reported during it and be counted twice,
+                // which the next reconciliation corrects
+                changesDuringReconciliation.forEach(changes -> apply(recount, changes));
+                changesDuringReconciliation = null;
+                localeCounts = recount;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onTranslationCountsChanged(final Map<String, Long> localeCountChanges) {
+        apply(localeCounts, localeCountChanges);
+        if (nonNull(changesDuringReconciliation)) {
+            changesDuringReconciliation.add(localeCountChanges);
+        }
+    }
+
+    @Override
+    public void start() {
+        // Not counted while holding the monitor, which reconciliations acquire after the reconciliation lock
+        reconcile();
+        synchronized (this) {
+            executor =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final var thread = new Thread(runnable, "translation-coverage-reconciler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            executor.scheduleWithFixedDelay(
+                this::reconcileSafely,
+                reconcileInterval.toMillis(),
+                reconcileInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (nonNull(executor)) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return nonNull(executor);
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Could not recount translations", e);
+        }
+    }
+
+    private static void apply(final Map<String, Long> localeCounts, final Map<String, Long> localeCountChanges) {
+        localeCountChanges.forEach((locale, countChange) -> {
+            final var count = localeCounts.merge(locale, countChange, Long::sum);
+            if (count <= 0) {
+                localeCounts.remove(locale);
+            }
+        });
+    }
+}
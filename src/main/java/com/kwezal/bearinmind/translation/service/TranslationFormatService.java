@@ -0,0 +1,176 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.ibm.icu.text.MessageFormat;
+import com.ibm.icu.util.ULocale;
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Service;
+
+/**
+ * Formats translation texts as ICU message patterns, e.g. {@code "{count, plural, one {# lesson} other {# lessons}}"}.
+ * <p>
+ * Parsed patterns are kept per translation identifier, locale and tenant schema, up to a configured number
+ * of the most recently used ones, and discarded when the translation changes.
+ * Available only if ICU4J is on the classpath.
+ */
+@Service
+@ConditionalOnClass(name = "com.ibm.icu.text.MessageFormat")
+public class TranslationFormatService implements TranslationChangeListener {
+
+    private final TranslationService translationService;
+    private final ObjectProvider<TranslationTenancy> tenancy;
+    private final Map<Key, MessageFormat> formats;
+
+    private long generation;
+
+    public TranslationFormatService(
+        final TranslationService translationService,
+        final ObjectProvider<TranslationTenancy> tenancy,
+        @Value("${application.translation.format.max-entries:10000}") final int maxEntries
+    ) {
+        this.translationService = translationService;
+        this.tenancy = tenancy;
+        this.formats =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, MessageFormat> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+    }
+
+    /**
+     * Formats a text of a translation with a given identifier in a given locale.
+     *
+     * @param identifier translation identifier
+     * @param locale     locale
+     * @param arguments  mapping of argument name to value
+     * @return formatted text
+     * @throws ResourceNotFoundException if the translation does not exist
+     * @throws IllegalArgumentException  if the text is not a valid message pattern or an argument has a wrong type
+     */
+    public String formatTextByIdentifierAndLocale(
+        final Integer identifier,
+        final String locale,
+        final Map<String, Object> arguments
+    ) {
+        final var key = new Key(identifier, locale, currentSchema());
+        var format = find(key);
+        if (isNull(format)) {
+            final var generation = generation();
+            format = compile(key, translationService.findTextByIdentifierAndLocale(identifier, locale), generation);
+        }
+
+        return format(format, arguments);
+    }
+
+    /**
+     * Formats texts of translations with given identifiers in a given locale.
+     * The texts which are not cached yet are loaded at once.
+     *
+     * @param identifierArguments mapping of translation identifier to mapping of argument name to value
+     * @param locale              locale
+     * @return mapping of translation identifier to formatted text, without translations that do not exist
+     * @throws IllegalArgumentException if a text is not a valid message pattern or an argument has a wrong type
+     */
+    public Map<Integer, String> formatAllIdentifierAndTextByIdentifiersAndLocale(
+        final Map<Integer, Map<String, Object>> identifierArguments,
+        final String locale
+    ) {
+        final var schema = currentSchema();
+        final var identifierFormats = new HashMap<Integer, MessageFormat>(identifierArguments.size() * 2);
+        identifierArguments
+            .keySet()
+            .forEach(identifier -> {
+                final var format = find(new Key(identifier, locale, schema));
+                if (nonNull(format)) {
+                    identifierFormats.put(identifier, format);
+                }
+            });
+
+        if (identifierFormats.size() < identifierArguments.size()) {
+            final var generation = generation();
+            final var missingIdentifiers = new HashSet<>(identifierArguments.keySet());
+            missingIdentifiers.removeAll(identifierFormats.keySet());
+            translationService
+                .findAllIdentifierAndTextByIdentifiersAndLocale(missingIdentifiers, locale)
+                .forEach((identifier, text) ->
+                    identifierFormats.put(identifier, compile(new Key(identifier, locale, schema), text, generation))
+                );
+        }
+
+        final var result = new HashMap<Integer, String>(identifierFormats.size() * 2);
+        identifierFormats.forEach((identifier, format) ->
+            result.put(identifier, format(format, identifierArguments.get(identifier)))
+        );
+        return result;
+    }
+
+    @Override
+    public synchronized void onTranslationsChanged(final Set<Integer> identifiers) {
+        generation++;
+        formats.keySet().removeIf(key -> identifiers.contains(key.identifier()));
+    }
+
+    private synchronized MessageFormat find(final Key key) {
+        return formats.get(key);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Parses a pattern and caches it, unless translations have changed since the text was loaded.
+     *
+     * @param key        translation identifier and locale
+     * @param text       message pattern
+     * @param generation generation obtained before the text was loaded
+     * @return parsed pattern
+     */
+    private MessageFormat compile(final Key key, final String text, final long generation) {
+        final var format = new MessageFormat(text, toULocale(key.locale()));
+        synchronized (this) {
+            if (this.generation == generation) {
+                formats.put(key, format);
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Converts a locale to an ICU locale, splitting the region off a locale such as {@code plPL},
+     * which ICU would otherwise read as a language with no plural rules of its own.
+     */
+    private static ULocale toULocale(final String locale) {
+        return locale.length() == 4 ? new ULocale(locale.substring(0, 2), locale.substring(2)) : new ULocale(locale);
+    }
+
+    private static String format(final MessageFormat format, final Map<String, Object> arguments) {
+        // MessageFormat keeps lazily created sub-formats, so a shared instance must not be used concurrently
+        synchronized (format) {
+            return format.format(isNull(arguments) ? Map.of() : arguments);
+        }
+    }
+
+    /**
+     * @return schema of the current tenant or {@code null} if multi-tenancy is disabled
+     */
+    private String currentSchema() {
+        final var currentTenancy = tenancy.getIfAvailable();
+        return isNull(currentTenancy) ? null : currentTenancy.currentSchema();
+    }
+
+    private record Key(Integer identifier, String locale, String schema) {}
+}
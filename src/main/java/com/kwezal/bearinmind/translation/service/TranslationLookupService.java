@@ -0,0 +1,306 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.metrics.TranslationResolvedTextCounter;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Translation lookups that do not let a slow or unavailable database block the caller.
+ * <ul>
+ *     <li>Texts loaded within the freshness period are returned without querying the database.</li>
+ *     <li>Older texts are returned immediately and refreshed asynchronously.</li>
+ *     <li>Texts that are not known yet are loaded with a timeout.</li>
+ *     <li>After a number of consecutive failures, the database is not queried for a while
+ *     and only known texts are returned.</li>
+ * </ul>
+ * Each text returned while the database is unhealthy is counted by the {@code translation.lookup.degraded} metric.
+ * Known texts are counted as resolved texts, just like the texts loaded by {@link TranslationService}.
+ * With multi-tenancy, texts are known and loaded per tenant schema.
+ */
+@Slf4j
+@Service
+public class TranslationLookupService implements TranslationChangeListener {
+
+    static final String DEGRADED_METRIC = "translation.lookup.degraded";
+    static final String FAILED_METRIC = "translation.lookup.failed";
+
+    private final TranslationService translationService;
+    private final TranslationResolvedTextCounter resolvedTextCounter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<TranslationTenancy> tenancy;
+    private final Duration timeout;
+    private final long timeoutNanos;
+    private final long freshNanos;
+    private final int maxEntries;
+    private final ThreadPoolExecutor executor;
+    private final TranslationCircuitBreaker circuitBreaker;
+
+    private final Map<Integer, Map<Key, Entry>> knownTexts = new ConcurrentHashMap<>();
+    private final AtomicInteger knownTextCount = new AtomicInteger();
+    private final Set<Key> refreshedKeys = ConcurrentHashMap.newKeySet();
+    private long generation;
+
+    public TranslationLookupService(
+        final TranslationService translationService,
+        final TranslationResolvedTextCounter resolvedTextCounter,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        final ObjectProvider<TranslationTenancy> tenancy,
+        @Value("${application.translation.lookup.timeout:200ms}") final Duration timeout,
+        @Value("${application.translation.lookup.fresh-for:1m}") final Duration freshFor,
+        @Value("${application.translation.lookup.max-entries:100000}") final int maxEntries,
+        @Value("${application.translation.lookup.threads:8}") final int threads,
+        @Value("${application.translation.lookup.circuit-breaker.failure-threshold:5}") final int failureThreshold,
+        @Value("${application.translation.lookup.circuit-breaker.open-for:30s}") final Duration openFor
+    ) {
+        this.translationService = translationService;
+        this.resolvedTextCounter = resolvedTextCounter;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.tenancy = tenancy;
+        this.timeout = timeout;
+        this.timeoutNanos = timeout.toNanos();
+        this.freshNanos = freshFor.toNanos();
+        this.maxEntries = maxEntries;
+        this.circuitBreaker = new TranslationCircuitBreaker(failureThreshold, openFor);
+
+        final var threadCount = new AtomicInteger();
+        this.executor =
+            new ThreadPoolExecutor(
+                threads,
+                threads,
+                1,
+                TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    final var thread = new Thread(runnable, "translation-lookup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Finds a text of a translation with a given identifier in a given locale.
+     *
+     * @param identifier translation identifier
+     * @param locale     locale
+     * @return translation text, possibly outdated if the database is slow or unavailable
+     * @throws ResourceNotFoundException           if the translation does not exist
+     * @throws QueryTimeoutException               if the text is not known and the database did not respond in time
+     * @throws DataAccessResourceFailureException if the text is not known and the database is unavailable
+     */
+    public String findTextByIdentifierAndLocale(final Integer identifier, final String locale) {
+        final var key = new Key(identifier, locale, currentSchema());
+        final var entry = knownTexts.getOrDefault(identifier, Map.of()).get(key);
+        if (isNull(entry)) {
+            return load(key).text();
+        }
+
+        if (System.nanoTime() - entry.loadedAt() >= freshNanos) {
+            final var isRefreshing = refreshAsynchronously(key);
+            if (!isRefreshing || entry.isRefreshFailed()) {
+                meterRegistry.counter(DEGRADED_METRIC, "reason", isRefreshing ? "refresh-failed" : "circuit-open").increment();
+            }
+        }
+
+        resolvedTextCounter.count("findTextByIdentifierAndLocale", locale, entry.text().locale());
+        return entry.text().text();
+    }
+
+    @Override
+    public synchronized void onTranslationsChanged(final Set<Integer> identifiers) {
+        generation++;
+        identifiers.forEach(identifier -> {
+            final var removedTexts = knownTexts.remove(identifier);
+            if (removedTexts != null) {
+                knownTextCount.addAndGet(-removedTexts.size());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private TranslationTextAndLocaleDto load(final Key key) {
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter(FAILED_METRIC, "reason", "circuit-open").increment();
+            throw new DataAccessResourceFailureException("Translation database is unavailable");
+        }
+
+        final var generation = generation();
+        final Future<TranslationTextAndLocaleDto> future;
+        try {
+            // The query is cancelled by the database too, as interrupting the thread does not stop it
+            future = executor.submit(() -> callAs(key.schema(), () -> findTextByKey(key, timeout)));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onFailure();
+            meterRegistry.counter(FAILED_METRIC, "reason", "rejected").increment();
+            throw new DataAccessResourceFailureException("Too many pending translation lookups", e);
+        }
+
+        try {
+            final var text = future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            store(key, new Entry(text, System.nanoTime(), false), generation);
+            return text;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            meterRegistry.counter(FAILED_METRIC, "reason", "timeout").increment();
+            throw new QueryTimeoutException("Translation lookup timed out", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResourceNotFoundException notFoundException) {
+                circuitBreaker.onSuccess();
+                throw notFoundException;
+            }
+
+            circuitBreaker.onFailure();
+            meterRegistry.counter(FAILED_METRIC, "reason", "error").increment();
+            throw new DataAccessResourceFailureException("Translation lookup failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            // The outcome is unknown, but it has to be reported, in case this call is the trial of a half-open circuit
+            circuitBreaker.onFailure();
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Translation lookup interrupted", e);
+        }
+    }
+
+    /**
+     * Starts a refresh of a known text, unless one is already in progress.
+     *
+     * @param key translation identifier and locale
+     * @return {@code false} if the refresh could not be started because the database is unhealthy
+     */
+    private boolean refreshAsynchronously(final Key key) {
+        if (!refreshedKeys.add(key)) {
+            return true;
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            refreshedKeys.remove(key);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> refresh(key));
+            return true;
+        } catch (RejectedExecutionException e) {
+            refreshedKeys.remove(key);
+            circuitBreaker.onFailure();
+            return false;
+        }
+    }
+
+    private void refresh(final Key key) {
+        final var generation = generation();
+        final var startedAt = System.nanoTime();
+        // Reported whatever is thrown, as the breaker lets no other call through until the outcome of a trial is known
+        var healthy = false;
+        try {
+            final var text = callAs(key.schema(), () -> findTextByKey(key, null));
+            // A response slower than the timeout counts as a failure, even though the text is used
+            healthy = System.nanoTime() - startedAt <= timeoutNanos;
+            store(key, new Entry(text, System.nanoTime(), false), generation);
+        } catch (ResourceNotFoundException e) {
+            healthy = true;
+            onTranslationsChanged(Set.of(key.identifier()));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh translation {}", key, e);
+            knownTexts
+                .getOrDefault(key.identifier(), Map.of())
+                .computeIfPresent(key, (refreshedKey, entry) -> new Entry(entry.text(), entry.loadedAt(), true));
+        } finally {
+            if (healthy) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            refreshedKeys.remove(key);
+        }
+    }
+
+    /**
+     * Stores a loaded text, unless any translation has changed since it started loading,
+     * so that a text loaded concurrently with its modification does not replace the evicted one.
+     *
+     * @param generation generation obtained before the text was loaded
+     */
+    private synchronized void store(final Key key, final Entry entry, final long generation) {
+        if (this.generation != generation) {
+            return;
+        }
+
+        final var texts = knownTexts.computeIfAbsent(key.identifier(), identifier -> new ConcurrentHashMap<>());
+        if (texts.put(key, entry) == null && knownTextCount.incrementAndGet() > maxEntries) {
+            evictAny();
+        }
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Makes room for new texts by removing texts of an arbitrary translation.
+     */
+    private void evictAny() {
+        final var iterator = knownTexts.entrySet().iterator();
+        if (iterator.hasNext()) {
+            final var removedTexts = iterator.next().getValue();
+            iterator.remove();
+            knownTextCount.addAndGet(-removedTexts.size());
+        }
+    }
+
+    private TranslationTextAndLocaleDto findTextByKey(final Key key, final Duration timeout) {
+        return translationService.findTextAndLocaleByIdentifierAndLocale(key.identifier(), key.locale(), timeout);
+    }
+
+    /**
+     * @return schema of the current tenant or {@code null} if multi-tenancy is disabled
+     */
+    private String currentSchema() {
+        final var currentTenancy = tenancy.getIfAvailable();
+        return isNull(currentTenancy) ? null : currentTenancy.currentSchema();
+    }
+
+    /**
+     * Runs a function in an executor thread as the tenant that requested it.
+     */
+    private <T> T callAs(final String schema, final Supplier<T> supplier) {
+        final var currentTenancy = tenancy.getIfAvailable();
+        return isNull(currentTenancy) ? supplier.get() : currentTenancy.callAs(schema, supplier);
+    }
+
+    private record Key(Integer identifier, String locale, String schema) {}
+
+    private record Entry(TranslationTextAndLocaleDto text, long loadedAt, boolean isRefreshFailed) {}
+}
@@ -1,26 +1,50 @@
 package com.kwezal.bearinmind.translation.service;
 
+import static com.kwezal.bearinmind.translation.event.TranslationChangeType.*;
+import static com.kwezal.bearinmind.translation.utils.CollectionUtils.partition;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 import com.kwezal.bearinmind.exception.InvalidRequestDataException;
 import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.cache.TranslationCache;
+import com.kwezal.bearinmind.translation.cache.TranslationTextInterner;
+import com.kwezal.bearinmind.translation.dto.TranslationChangesDto;
 import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndLocaleDto;
 import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndVersionDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationLocaleCountDto;
+import com.kwezal.bearinmind.translation.dto.TranslationLocaleMatrix;
+import com.kwezal.bearinmind.translation.dto.TranslationMatrix;
+import com.kwezal.bearinmind.translation.dto.TranslationSearchPageDto;
+import com.kwezal.bearinmind.translation.dto.TranslationSyncSummaryDto;
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
 import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
+import com.kwezal.bearinmind.translation.event.TranslationChange;
+import com.kwezal.bearinmind.translation.event.TranslationChangeType;
 import com.kwezal.bearinmind.translation.mapper.TranslationMapper;
+import com.kwezal.bearinmind.translation.metrics.TranslationResolvedTextCounter;
 import com.kwezal.bearinmind.translation.model.Translation;
 import com.kwezal.bearinmind.translation.model.Translation_;
+import com.kwezal.bearinmind.translation.repository.TranslationDeletionRepository;
 import com.kwezal.bearinmind.translation.repository.TranslationRepository;
-import com.kwezal.bearinmind.translation.utils.CollectionUtils;
+import com.kwezal.bearinmind.translation.schema.TranslationFieldSchema;
 import com.kwezal.bearinmind.translation.validation.annotation.Locale;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,12 +53,25 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TranslationService {
 
+    /**
+     * Maximum number of identifiers hashed by a single query, below the limit of bind parameters of a statement.
+     */
+    private static final int MAX_HASHED_IDENTIFIERS = 10_000;
+
     @Value("${application.locale}")
     private String applicationLocale;
 
+    @Value("${application.translation.sync.batch-size:500}")
+    private int syncBatchSize;
+
     private final TranslationRepository translationRepository;
+    private final TranslationDeletionRepository translationDeletionRepository;
     private final TranslationMapper translationMapper;
     private final TranslationValidationService translationValidationService;
+    private final TranslationChangeNotifier translationChangeNotifier;
+    private final ObjectProvider<TranslationCache> translationCache;
+    private final ObjectProvider<TranslationTextInterner> translationTextInterner;
+    private final TranslationResolvedTextCounter resolvedTextCounter;
 
     /**
      * Creates a translation in the application locale.
@@ -46,6 +83,7 @@ public class TranslationService {
     public Integer createTranslation(final TranslationTextDto dto) {
         var translation = translationMapper.map(dto, applicationLocale);
         translation = translationRepository.save(translation);
+        recordCreations(List.of(translation));
         return translation.getIdentifier();
     }
 
@@ -84,10 +122,12 @@ public class TranslationService {
 
         final var translation = translationRepository.save(translationMapper.map(applicationLocaleText, applicationLocale));
         final var identifier = translation.getIdentifier();
+        recordCreations(List.of(translation));
 
         if (!localeTextWithoutApplicationLocaleMap.isEmpty()) {
             final var translations = translationMapper.map(localeTextWithoutApplicationLocaleMap, identifier);
             translationRepository.saveAll(translations);
+            recordCreations(translations);
         }
 
         return identifier;
@@ -110,32 +150,105 @@ public class TranslationService {
         final Set<String> requiredFields,
         final Set<String> optionalFields
     ) {
-        if (localeFieldTextsMap.isEmpty() && requiredFields.isEmpty()) {
+        return createMultilingualTranslations(TranslationMatrix.of(localeFieldTextsMap), requiredFields, optionalFields);
+    }
+
+    /**
+     * Creates multiple translations in multiple locales.
+     * Required fields have to be present in the application locale.
+     * Optional fields can only be defined if they are also present in the application locale.
+     * Fields other than required and optional are not allowed.
+     *
+     * @param localeFieldTexts matrix of field texts
+     * @param requiredFields   required field names
+     * @param optionalFields   optional field names
+     * @return mapping of field name to created translation's identifier or an empty map if a given matrix and required fields are empty
+     */
+    @Transactional(readOnly = false)
+    public Map<String, Integer> createMultilingualTranslations(
+        final TranslationMatrix localeFieldTexts,
+        final Set<String> requiredFields,
+        final Set<String> optionalFields
+    ) {
+        if (localeFieldTexts.isEmpty() && requiredFields.isEmpty()) {
             return Map.of();
         }
 
-        translationValidationService.validateIfTranslationsInLocaleExist(localeFieldTextsMap, applicationLocale);
-
-        // Make a copy to avoid modifying the passed argument
-        final var localeTextWithoutApplicationLocaleMap = new HashMap<>(localeFieldTextsMap);
-
-        final var applicationLocaleFieldTextMap = localeTextWithoutApplicationLocaleMap.remove(applicationLocale);
-
-        translationValidationService.validateIfTranslationsHaveRequiredFields(applicationLocaleFieldTextMap, requiredFields);
+        final var applicationLocaleIndex = translationValidationService.validateIfTranslationsInLocaleExist(
+            localeFieldTexts,
+            applicationLocale
+        );
+        translationValidationService.validateIfTranslationsHaveRequiredFields(
+            localeFieldTexts,
+            applicationLocaleIndex,
+            requiredFields
+        );
         translationValidationService.validateIfTranslationsContainOnlyExpectedFields(
-            applicationLocaleFieldTextMap,
+            localeFieldTexts,
+            applicationLocaleIndex,
             requiredFields,
             optionalFields
         );
-        translationValidationService.validateIfFieldIsNotDefinedIfNotPresentInLocale(
-            localeTextWithoutApplicationLocaleMap,
-            applicationLocaleFieldTextMap
+        translationValidationService.validateIfFieldIsNotDefinedIfNotPresentInLocale(localeFieldTexts, applicationLocaleIndex);
+
+        return createValidatedMultilingualTranslations(localeFieldTexts, applicationLocaleIndex);
+    }
+
+    /**
+     * Creates multiple translations in multiple locales.
+     * The mapping has to conform to a given schema, i.e. required fields have to be present in the application locale,
+     * optional fields can only be defined if they are also present in the application locale
+     * and fields other than required and optional are not allowed.
+     *
+     * @param localeFieldTextsMap mapping of locale to field texts
+     * @param schema              translation field schema
+     * @return mapping of field name to created translation's identifier or an empty map if a given mapping is empty and the schema has no required fields
+     */
+    @Transactional(readOnly = false)
+    public Map<String, Integer> createMultilingualTranslations(
+        final Map<@Locale String, Map<String, String>> localeFieldTextsMap,
+        final TranslationFieldSchema schema
+    ) {
+        return createMultilingualTranslations(TranslationMatrix.of(localeFieldTextsMap), schema);
+    }
+
+    /**
+     * Creates multiple translations in multiple locales.
+     * The matrix has to conform to a given schema, i.e. required fields have to be present in the application locale,
+     * optional fields can only be defined if they are also present in the application locale
+     * and fields other than required and optional are not allowed.
+     *
+     * @param localeFieldTexts matrix of field texts
+     * @param schema           translation field schema
+     * @return mapping of field name to created translation's identifier or an empty map if a given matrix is empty and the schema has no required fields
+     */
+    @Transactional(readOnly = false)
+    public Map<String, Integer> createMultilingualTranslations(
+        final TranslationMatrix localeFieldTexts,
+        final TranslationFieldSchema schema
+    ) {
+        if (localeFieldTexts.isEmpty() && schema.requiredFields().isEmpty()) {
+            return Map.of();
+        }
+
+        final var applicationLocaleIndex = translationValidationService.validateFieldSchema(
+            schema,
+            localeFieldTexts,
+            applicationLocale
         );
 
-        final var fieldIdentifiers = createApplicationLocaleTranslations(applicationLocaleFieldTextMap);
-        if (!localeTextWithoutApplicationLocaleMap.isEmpty()) {
-            final var translations = translationMapper.map(localeTextWithoutApplicationLocaleMap, fieldIdentifiers);
+        return createValidatedMultilingualTranslations(localeFieldTexts, applicationLocaleIndex);
+    }
+
+    private Map<String, Integer> createValidatedMultilingualTranslations(
+        final TranslationMatrix localeFieldTexts,
+        final int applicationLocaleIndex
+    ) {
+        final var fieldIdentifiers = createApplicationLocaleTranslations(localeFieldTexts, applicationLocaleIndex);
+        if (localeFieldTexts.localeCount() > 1) {
+            final var translations = translationMapper.map(localeFieldTexts, fieldIdentifiers, applicationLocale);
             translationRepository.saveAll(translations);
+            recordCreations(translations);
         }
 
         return fieldIdentifiers;
@@ -144,18 +257,26 @@ public class TranslationService {
     /**
      * Creates multiple translations in the application locale.
      *
-     * @param applicationLocaleFieldTextMap mapping of field name to text
+     * @param localeFieldTexts       matrix of field texts
+     * @param applicationLocaleIndex index of the application locale
      * @return mapping of field name to created translation's identifier
      */
-    private Map<String, Integer> createApplicationLocaleTranslations(final Map<String, String> applicationLocaleFieldTextMap) {
-        return applicationLocaleFieldTextMap
-            .entrySet()
-            .stream()
-            .map(field -> {
-                final var translation = translationRepository.save(translationMapper.map(field.getValue(), applicationLocale));
-                return Map.entry(field.getKey(), translation.getIdentifier());
-            })
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private Map<String, Integer> createApplicationLocaleTranslations(
+        final TranslationMatrix localeFieldTexts,
+        final int applicationLocaleIndex
+    ) {
+        final var fieldIdentifiers = new HashMap<String, Integer>();
+        final var translations = new ArrayList<Translation>();
+        for (int fieldIndex = 0; fieldIndex < localeFieldTexts.fieldCount(); fieldIndex++) {
+            final var text = localeFieldTexts.text(fieldIndex, applicationLocaleIndex);
+            if (nonNull(text)) {
+                final var translation = translationRepository.save(translationMapper.map(text, applicationLocale));
+                fieldIdentifiers.put(localeFieldTexts.field(fieldIndex), translation.getIdentifier());
+                translations.add(translation);
+            }
+        }
+        recordCreations(translations);
+        return fieldIdentifiers;
     }
 
     /**
@@ -170,6 +291,61 @@ public class TranslationService {
         requireExistsByIdentifier(identifier);
         var translation = translationMapper.map(text, locale, identifier);
         translationRepository.save(translation);
+        recordCreations(List.of(translation));
+    }
+
+    /**
+     * Sets texts of existing translations in given locales, creating texts in locales the translations are not defined in,
+     * in a single transaction.
+     *
+     * @param localeTexts mapping of translation identifier and locale to text
+     * @throws ResourceNotFoundException   if any of the translations does not exist
+     * @throws InvalidRequestDataException if any locale is invalid
+     */
+    @Transactional(readOnly = false)
+    public void upsertTranslations(final Map<TranslationIdentifierAndLocaleDto, String> localeTexts) {
+        if (localeTexts.isEmpty()) {
+            return;
+        }
+
+        localeTexts.keySet().forEach(key -> translationValidationService.validateLocale(key.locale()));
+        final var identifiers = localeTexts
+            .keySet()
+            .stream()
+            .map(TranslationIdentifierAndLocaleDto::identifier)
+            .collect(Collectors.toSet());
+        final var existingTranslations = new HashMap<TranslationIdentifierAndLocaleDto, Translation>();
+        translationRepository
+            .findAllByIdentifierIn(identifiers)
+            .forEach(translation ->
+                existingTranslations.put(
+                    new TranslationIdentifierAndLocaleDto(translation.getIdentifier(), translation.getLocale()),
+                    translation
+                )
+            );
+
+        final var missingIdentifiers = new HashSet<>(identifiers);
+        existingTranslations.keySet().forEach(key -> missingIdentifiers.remove(key.identifier()));
+        if (!missingIdentifiers.isEmpty()) {
+            throw new ResourceNotFoundException(Translation.class, Map.of(Translation_.IDENTIFIER, missingIdentifiers));
+        }
+
+        final var translationsToCreate = new ArrayList<Translation>();
+        final var translationsToUpdate = new ArrayList<Translation>();
+        localeTexts.forEach((key, text) -> {
+            final var translation = existingTranslations.get(key);
+            if (isNull(translation)) {
+                translationsToCreate.add(translationMapper.map(text, key.locale(), key.identifier()));
+            } else if (!translation.getText().equals(text)) {
+                translation.setText(text);
+                translationsToUpdate.add(translation);
+            }
+        });
+
+        translationRepository.saveAll(translationsToUpdate);
+        recordUpdates(translationsToUpdate);
+        translationRepository.saveAll(translationsToCreate);
+        recordCreations(translationsToCreate);
     }
 
     /**
@@ -184,6 +360,7 @@ public class TranslationService {
         final var translation = fetchTranslationByIdentifierAndLocale(identifier, locale);
         translation.setText(text);
         translationRepository.save(translation);
+        recordUpdates(List.of(translation));
     }
 
     /**
@@ -219,13 +396,17 @@ public class TranslationService {
             }
         }
 
+        recordUpdates(translationsToSave);
+
         if (!translationsToDelete.isEmpty()) {
             translationRepository.deleteAll(translationsToDelete);
+            recordDeletions(translationsToDelete);
         }
 
         if (!localeTextToCreateMap.isEmpty()) {
             final var translationsToCreate = translationMapper.map(localeTextToCreateMap, identifier);
             translationsToSave.addAll(translationsToCreate);
+            recordCreations(translationsToCreate);
         }
 
         if (!translationsToSave.isEmpty()) {
@@ -244,26 +425,163 @@ public class TranslationService {
     public Map<String, Integer> updateMultilingualTranslations(
         final Map<String, Integer> fieldIdentifierMap,
         final Map<@Locale String, Map<String, String>> localeFieldTextsMap
+    ) {
+        return updateMultilingualTranslations(fieldIdentifierMap, TranslationMatrix.of(localeFieldTextsMap));
+    }
+
+    /**
+     * Updates multiple translations in multiple locales.
+     *
+     * @param fieldIdentifierMap mapping of field name to translation identifier
+     * @param localeFieldTexts   matrix of field texts
+     * @return mapping of field name to updated translation's identifier
+     */
+    @Transactional(readOnly = false)
+    public Map<String, Integer> updateMultilingualTranslations(
+        final Map<String, Integer> fieldIdentifierMap,
+        final TranslationMatrix localeFieldTexts
     ) {
         // Make a copy to avoid modifying the passed argument
         final var result = new HashMap<>(fieldIdentifierMap);
 
-        final var fieldLocaleTextsMap = CollectionUtils.swapMapKeys(localeFieldTextsMap);
-
         fieldIdentifierMap.forEach((field, identifier) -> {
+            final var fieldIndex = localeFieldTexts.fieldIndex(field);
+            final var localeTextMap = fieldIndex < 0 ? null : localeFieldTexts.localeTexts(fieldIndex);
             if (isNull(identifier)) {
-                final var createdIdentifier = createMultilingualTranslation(fieldLocaleTextsMap.get(field));
+                final var createdIdentifier = createMultilingualTranslation(localeTextMap);
                 if (nonNull(createdIdentifier)) {
                     result.put(field, createdIdentifier);
                 }
             } else {
-                updateMultilingualTranslation(identifier, fieldLocaleTextsMap.get(field));
+                updateMultilingualTranslation(identifier, localeTextMap);
             }
         });
 
         return result;
     }
 
+    /**
+     * Makes translations with given identifiers have exactly given texts, e.g. to deploy a catalog of UI texts kept in
+     * version control. Texts in locales not given for a translation are deleted and translations that do not exist are
+     * created with the given identifiers, so catalog identifiers must not be allocated by the identifier sequence
+     * (negative identifiers are a good choice). Translations with other identifiers are not affected.
+     * <p>
+     * Hashes of all given translations are compared with hashes computed by the database first,
+     * so that only changed translations are loaded and written, in batches.
+     *
+     * @param identifierLocaleTexts mapping of translation identifier to mapping of locale to text
+     * @return numbers of changed translations and texts
+     * @throws InvalidRequestDataException if any translation has no text in the application locale or an invalid locale
+     */
+    @Transactional(readOnly = false)
+    public TranslationSyncSummaryDto syncTranslations(final Map<Integer, Map<@Locale String, String>> identifierLocaleTexts) {
+        final var desiredLocaleTexts = new HashMap<Integer, SortedMap<String, String>>(identifierLocaleTexts.size() * 2);
+        identifierLocaleTexts.forEach((identifier, localeTexts) -> {
+            translationValidationService.validateIfTranslationsInLocaleExist(localeTexts, applicationLocale);
+            final var sortedLocaleTexts = new TreeMap<String, String>();
+            localeTexts.forEach((locale, text) -> {
+                translationValidationService.validateLocale(locale);
+                if (nonNull(text)) {
+                    sortedLocaleTexts.put(locale, text);
+                }
+            });
+            desiredLocaleTexts.put(identifier, sortedLocaleTexts);
+        });
+
+        final var hashes = new HashMap<Integer, String>(desiredLocaleTexts.size() * 2);
+        partition(new ArrayList<>(desiredLocaleTexts.keySet()), MAX_HASHED_IDENTIFIERS)
+            .forEach(identifiers ->
+                translationRepository
+                    .findAllIdentifierAndHashByIdentifiers(identifiers)
+                    .forEach(hash -> hashes.put(hash.identifier(), hash.hash()))
+            );
+        final var changedIdentifiers = desiredLocaleTexts
+            .entrySet()
+            .stream()
+            .filter(entry -> !hash(entry.getValue()).equals(hashes.get(entry.getKey())))
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+
+        var insertedCount = 0;
+        var updatedCount = 0;
+        var deletedCount = 0;
+        for (final var identifiers : partition(changedIdentifiers, Math.max(1, syncBatchSize))) {
+            final var translationsToCreate = new ArrayList<Translation>();
+            final var translationsToUpdate = new ArrayList<Translation>();
+            final var translationsToDelete = new ArrayList<Translation>();
+            final var existingTranslations = translationRepository
+                .findAllByIdentifierIn(new HashSet<>(identifiers))
+                .stream()
+                .collect(Collectors.groupingBy(Translation::getIdentifier));
+
+            for (final var identifier : identifiers) {
+                final var localeTextToCreateMap = new HashMap<>(desiredLocaleTexts.get(identifier));
+                for (final var translation : existingTranslations.getOrDefault(identifier, List.of())) {
+                    final var text = localeTextToCreateMap.remove(translation.getLocale());
+                    if (isNull(text)) {
+                        translationsToDelete.add(translation);
+                    } else if (!translation.getText().equals(text)) {
+                        translation.setText(text);
+                        translationsToUpdate.add(translation);
+                    }
+                }
+                translationsToCreate.addAll(translationMapper.map(localeTextToCreateMap, identifier));
+            }
+
+            if (!translationsToDelete.isEmpty()) {
+                translationRepository.deleteAllInBatch(translationsToDelete);
+                recordDeletions(translationsToDelete);
+            }
+            translationRepository.saveAll(translationsToUpdate);
+            recordUpdates(translationsToUpdate);
+            translationRepository.saveAll(translationsToCreate);
+            recordCreations(translationsToCreate);
+
+            insertedCount += translationsToCreate.size();
+            updatedCount += translationsToUpdate.size();
+            deletedCount += translationsToDelete.size();
+        }
+
+        return new TranslationSyncSummaryDto(
+            desiredLocaleTexts.size(),
+            changedIdentifiers.size(),
+            insertedCount,
+            updatedCount,
+            deletedCount
+        );
+    }
+
+    /**
+     * Copies translations with given identifiers in all their locales, e.g. when an entity is duplicated.
+     * All translations are copied in a single database statement.
+     *
+     * @param identifiers identifiers of translations to copy
+     * @return mapping of copied translation identifier to the identifier of its copy
+     * @throws ResourceNotFoundException if any of the translations does not exist
+     */
+    @Transactional(readOnly = false)
+    public Map<Integer, Integer> cloneTranslations(final Collection<Integer> identifiers) {
+        if (isEmpty(identifiers)) {
+            return Map.of();
+        }
+
+        final var sourceIdentifiers = Set.copyOf(identifiers);
+        final var copies = translationRepository.copyAllByIdentifiers(sourceIdentifiers);
+        final var clonedIdentifiers = new HashMap<Integer, Integer>();
+        copies.forEach(copy -> clonedIdentifiers.put(copy.sourceIdentifier(), copy.identifier()));
+        if (clonedIdentifiers.size() < sourceIdentifiers.size()) {
+            final var missingIdentifiers = new HashSet<>(sourceIdentifiers);
+            missingIdentifiers.removeAll(clonedIdentifiers.keySet());
+            throw new ResourceNotFoundException(Translation.class, Map.of(Translation_.IDENTIFIER, missingIdentifiers));
+        }
+
+        translationChangeNotifier.translationsChanged(
+            copies.stream().map(copy -> new TranslationChange(copy.identifier(), copy.locale(), CREATED)).toList()
+        );
+        return clonedIdentifiers;
+    }
+
     /**
      * Finds a text of a translation with a given identifier in a given locale.
      *
@@ -272,7 +590,62 @@ public class TranslationService {
      * @return translation text
      */
     public String findTextByIdentifierAndLocale(final Integer identifier, final String locale) {
-        final var text = translationRepository.findTextByIdentifierAndLocaleOrDefaultLocale(
+        return findTextAndLocale(identifier, locale, null, "findTextByIdentifierAndLocale").text();
+    }
+
+    /**
+     * Finds a text of a translation with a given identifier in a given locale, together with the locale it is defined in.
+     * If the text has to be loaded from the database, the query is cancelled by the database when it does not complete
+     * within a given time, so that it does not hold the connection any longer.
+     *
+     * @param identifier translation identifier
+     * @param locale     locale
+     * @param timeout    maximum duration of the query or {@code null} for no limit
+     * @return translation text with the locale it is defined in
+     * @throws org.springframework.dao.QueryTimeoutException if the query did not complete in time
+     */
+    public TranslationTextAndLocaleDto findTextAndLocaleByIdentifierAndLocale(
+        final Integer identifier,
+        final String locale,
+        final Duration timeout
+    ) {
+        return findTextAndLocale(identifier, locale, timeout, "findTextAndLocaleByIdentifierAndLocale");
+    }
+
+    private TranslationTextAndLocaleDto findTextAndLocale(
+        final Integer identifier,
+        final String locale,
+        final Duration timeout,
+        final String operation
+    ) {
+        final var cache = translationCache.getIfAvailable();
+        final var cachedText = isNull(cache) ? Optional.<TranslationTextAndLocaleDto>empty() : cache.get(identifier, locale);
+        final TranslationTextAndLocaleDto text;
+        if (cachedText.isPresent()) {
+            text = cachedText.get();
+        } else if (isNull(cache)) {
+            text = fetchTextByIdentifierAndLocale(identifier, locale, timeout);
+        } else {
+            final var generation = cache.generation();
+            text = fetchTextByIdentifierAndLocale(identifier, locale, timeout);
+            cache.put(identifier, locale, text, generation);
+        }
+
+        resolvedTextCounter.count(operation, locale, text.locale());
+        return new TranslationTextAndLocaleDto(textInterner().apply(text.text()), text.locale());
+    }
+
+    private TranslationTextAndLocaleDto fetchTextByIdentifierAndLocale(
+        final Integer identifier,
+        final String locale,
+        final Duration timeout
+    ) {
+        if (nonNull(timeout)) {
+            // A zero timeout would disable the limit
+            translationRepository.setLocalStatementTimeout(Math.max(1, timeout.toMillis()) + "ms");
+        }
+
+        final var text = translationRepository.findTextAndLocaleByIdentifierAndLocaleOrDefaultLocale(
             identifier,
             locale,
             applicationLocale
@@ -323,15 +696,289 @@ public class TranslationService {
             return Map.of();
         }
 
-        final var texts = translationRepository.findAllIdentifierAndTextByIdentifiersAndLocaleOrDefaultLocale(
+        final var cache = translationCache.getIfAvailable();
+        final var texts = new ArrayList<TranslationIdentifierTextAndLocaleDto>(identifiers.size());
+        final var missingIdentifiers = new ArrayList<Integer>();
+        if (isNull(cache)) {
+            missingIdentifiers.addAll(identifiers);
+        } else {
+            for (final var identifier : identifiers) {
+                cache
+                    .get(identifier, locale)
+                    .ifPresentOrElse(
+                        text -> texts.add(new TranslationIdentifierTextAndLocaleDto(identifier, text.text(), text.locale())),
+                        () -> missingIdentifiers.add(identifier)
+                    );
+            }
+        }
+
+        if (!missingIdentifiers.isEmpty()) {
+            final var generation = isNull(cache) ? 0 : cache.generation();
+            final var fetchedTexts = translationRepository.findAllIdentifierTextAndLocaleByIdentifiersAndLocaleOrDefaultLocale(
+                missingIdentifiers,
+                locale,
+                applicationLocale
+            );
+            if (nonNull(cache)) {
+                fetchedTexts.forEach(text ->
+                    cache.put(text.identifier(), locale, new TranslationTextAndLocaleDto(text.text(), text.locale()), generation)
+                );
+            }
+            texts.addAll(fetchedTexts);
+        }
+
+        final var fallbacks = texts.stream().filter(text -> !locale.equals(text.locale())).count();
+        resolvedTextCounter.count("findAllIdentifierAndTextByIdentifiersAndLocale", locale, texts.size() - fallbacks, fallbacks);
+
+        final var interner = textInterner();
+        return texts
+            .stream()
+            .collect(
+                Collectors.toMap(TranslationIdentifierTextAndLocaleDto::identifier, text -> interner.apply(text.text()))
+            );
+    }
+
+    /**
+     * Finds texts of translations with given identifiers in given locales with a single query, e.g. for an editor showing
+     * all locales of many translations at once. Texts are not resolved, i.e. a missing text is not replaced with the text in
+     * the application locale.
+     *
+     * @param identifiers translation identifiers
+     * @param locales     locales or {@code null} to find texts in all locales the translations are defined in
+     * @return matrix of texts with all given identifiers, including the ones of nonexistent translations, and all given
+     * locales, in ascending order
+     */
+    public TranslationLocaleMatrix findLocaleMatrix(final Collection<Integer> identifiers, final Set<String> locales) {
+        final var identifierArray = isEmpty(identifiers)
+            ? new int[0]
+            : identifiers.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        final var texts = identifierArray.length == 0 || (nonNull(locales) && locales.isEmpty())
+            ? List.<TranslationIdentifierTextAndLocaleDto>of()
+            : translationRepository.findAllIdentifierTextAndLocaleByIdentifiersAndLocales(identifiers, locales);
+
+        final var localeStream = isNull(locales)
+            ? texts.stream().map(TranslationIdentifierTextAndLocaleDto::locale)
+            : locales.stream();
+        final var localeArray = localeStream
+            .distinct()
+            .sorted()
+            .toArray(String[]::new);
+        final var matrix = new String[identifierArray.length * localeArray.length];
+        final var interner = textInterner();
+        for (final var text : texts) {
+            final var identifierIndex = Arrays.binarySearch(identifierArray, text.identifier());
+            final var localeIndex = Arrays.binarySearch(localeArray, text.locale());
+            matrix[identifierIndex * localeArray.length + localeIndex] = interner.apply(text.text());
+        }
+
+        return new TranslationLocaleMatrix(identifierArray, localeArray, matrix);
+    }
+
+    /**
+     * Finds all translations in a given locale.
+     *
+     * @param locale locale
+     * @return mapping of translation identifier to text
+     */
+    public Map<Integer, String> findAllIdentifierAndTextByLocale(final String locale) {
+        final var texts = translationRepository.findAllIdentifierAndTextByLocaleOrDefaultLocale(locale, applicationLocale);
+        final var interner = textInterner();
+
+        return texts
+            .stream()
+            .collect(Collectors.toMap(TranslationIdentifierAndTextDto::identifier, text -> interner.apply(text.text())));
+    }
+
+    /**
+     * Finds the latest committed change version.
+     * All changes with a version lower or equal to the returned one are committed, so they are visible to queries
+     * started afterwards, and changes committed later always get a higher version.
+     * A transaction in progress, of any database user, holds the version back until it ends.
+     *
+     * @return change version
+     */
+    public long findLatestVersion() {
+        return translationRepository.findLatestVersion();
+    }
+
+    /**
+     * Finds identifiers of translations created, updated or deleted in any locale after a given change version.
+     *
+     * @param version change version
+     * @return translation identifiers
+     */
+    public Set<Integer> findChangedIdentifiersSince(final long version) {
+        final var identifiers = new HashSet<>(translationRepository.findAllIdentifiersByVersionGreaterThan(version));
+        identifiers.addAll(translationDeletionRepository.findAllIdentifiersByVersionGreaterThan(version));
+        return identifiers;
+    }
+
+    /**
+     * Finds identifiers of translations not created or updated in any locale after a given change version.
+     *
+     * @param afterIdentifier identifier returned last by the previous call or {@code null} to start from the lowest one
+     * @param version         change version
+     * @param limit           maximum number of identifiers
+     * @return translation identifiers in ascending order
+     */
+    public List<Integer> findIdentifiersUnchangedSince(final Integer afterIdentifier, final long version, final int limit) {
+        return translationRepository.findAllIdentifiersByIdentifierGreaterThanAndVersionNotGreaterThan(
+            isNull(afterIdentifier) ? Integer.MIN_VALUE : afterIdentifier,
+            version,
+            PageRequest.of(0, limit)
+        );
+    }
+
+    /**
+     * Counts translations with given identifiers in all locales.
+     *
+     * @param identifiers translation identifiers
+     * @return number of translations
+     */
+    public long countTranslationsBy(final Collection<Integer> identifiers) {
+        return isEmpty(identifiers) ? 0 : translationRepository.countByIdentifierIn(identifiers);
+    }
+
+    /**
+     * Finds identifiers of translations that have no text in a given locale, i.e. would fall back to the application locale.
+     * Identifiers are returned in ascending order, so that all of them can be paged through by passing the last returned one.
+     *
+     * @param locale          locale
+     * @param afterIdentifier identifier returned last by the previous call or {@code null} to start from the lowest one
+     * @param limit           maximum number of identifiers
+     * @return translation identifiers
+     */
+    public List<Integer> findIdentifiersMissingInLocale(final String locale, final Integer afterIdentifier, final int limit) {
+        return translationRepository.findAllIdentifiersByIdentifierGreaterThanAndLocaleMissing(
+            locale,
+            applicationLocale,
+            isNull(afterIdentifier) ? Integer.MIN_VALUE : afterIdentifier,
+            PageRequest.of(0, limit)
+        );
+    }
+
+    /**
+     * Finds identifiers of translations ordered by their text in a given locale, with the application locale fallback,
+     * according to the ICU collation of the locale, e.g. to list entities sorted by their translated names page by page.
+     *
+     * @param identifiers translation identifiers or {@code null} to order all translations
+     * @param locale      locale
+     * @param offset      number of identifiers to skip
+     * @param limit       maximum number of identifiers
+     * @return translation identifiers
+     * @throws InvalidRequestDataException if a given locale is not a locale
+     */
+    public List<Integer> findIdentifiersOrderedByText(
+        final Collection<Integer> identifiers,
+        final String locale,
+        final int offset,
+        final int limit
+    ) {
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("Offset must not be negative and limit must be positive");
+        }
+        translationValidationService.validateLocale(locale);
+
+        return translationRepository.findAllIdentifiersByIdentifierInOrderByText(
             identifiers,
             locale,
-            applicationLocale
+            applicationLocale,
+            offset,
+            limit
         );
+    }
 
-        return texts
+    /**
+     * Counts translations in every locale.
+     *
+     * @return mapping of locale to the number of translations with a text in this locale
+     */
+    public Map<String, Long> countTranslationsByLocale() {
+        return translationRepository
+            .countAllByLocale()
             .stream()
-            .collect(Collectors.toMap(TranslationIdentifierAndTextDto::identifier, TranslationIdentifierAndTextDto::text));
+            .collect(Collectors.toMap(TranslationLocaleCountDto::locale, TranslationLocaleCountDto::count));
+    }
+
+    /**
+     * Finds translations in a given locale created, updated or deleted after a given change version.
+     * Passing {@code 0} returns all translations in a given locale.
+     * Texts in other locales are not included, so a client that mirrors the application locale fallback
+     * has to follow the changes in the application locale too.
+     * <p>
+     * The returned version is the latest committed one, read before the changes, so a change committed after
+     * a transaction with a lower version started is never skipped. Changes committed in the meantime may be
+     * returned again by the next call.
+     *
+     * @param version change version returned by the previous call
+     * @param locale  locale
+     * @return changed translations and the change version to use in the next call
+     */
+    public TranslationChangesDto findChangesSince(final long version, final String locale) {
+        final var latestVersion = Math.max(version, translationRepository.findLatestVersion());
+        final var upserts = translationRepository.findAllIdentifierTextAndVersionByLocaleAndVersionGreaterThan(
+            locale,
+            version
+        );
+        final var deletions = translationDeletionRepository.findAllIdentifierAndVersionByLocaleAndVersionGreaterThan(
+            locale,
+            version
+        );
+
+        final var interner = textInterner();
+        return new TranslationChangesDto(
+            latestVersion,
+            upserts
+                .stream()
+                .map(upsert -> new TranslationIdentifierAndTextDto(upsert.identifier(), interner.apply(upsert.text())))
+                .toList(),
+            deletions.stream().map(TranslationIdentifierAndVersionDto::identifier).toList()
+        );
+    }
+
+    /**
+     * Finds translations with a text containing a given phrase, ignoring case.
+     * Translations are ordered by identifier and locale, and a page starts right after the position returned
+     * with the previous page, so that deep pages are as fast as the first one.
+     *
+     * @param phrase search phrase, at least three characters long
+     * @param locale translation locale or {@code null} to search in all locales
+     * @param after  position returned with the previous page or {@code null} to get the first page
+     * @param limit  maximum number of translations on a page
+     * @return page of found translations
+     * @throws IllegalArgumentException if a given limit is not positive
+     */
+    public TranslationSearchPageDto searchTranslations(
+        final String phrase,
+        final String locale,
+        final TranslationIdentifierAndLocaleDto after,
+        final int limit
+    ) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search page limit must be positive");
+        }
+        translationValidationService.validateSearchPhrase(phrase);
+
+        final var pattern = "%" + escapeLikePattern(phrase.strip().toLowerCase(java.util.Locale.ROOT)) + "%";
+        final var translations = translationRepository.findAllIdentifierTextAndLocaleByTextLikeAfter(
+            pattern,
+            locale,
+            isNull(after) ? Integer.MIN_VALUE : after.identifier(),
+            isNull(after) ? "" : after.locale(),
+            PageRequest.of(0, limit + 1)
+        );
+
+        if (translations.size() <= limit) {
+            return new TranslationSearchPageDto(translations, null);
+        }
+
+        final var page = translations.subList(0, limit);
+        final var last = page.get(limit - 1);
+        return new TranslationSearchPageDto(page, new TranslationIdentifierAndLocaleDto(last.identifier(), last.locale()));
+    }
+
+    private static String escapeLikePattern(final String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     /**
@@ -341,7 +988,42 @@ public class TranslationService {
      */
     @Transactional(readOnly = false)
     public void deleteAllTranslationBy(final Integer identifier) {
-        translationRepository.deleteAllByIdentifier(identifier);
+        recordDeletions(translationRepository.deleteAllByIdentifier(identifier));
+    }
+
+    /**
+     * Deletes translations with given identifiers in all locales, except translations created or updated in any locale
+     * after a given change version. The translations are locked without waiting,
+     * so the call fails instead of blocking if any of them is being modified.
+     *
+     * @param identifiers translation identifiers
+     * @param version     change version
+     * @return number of deleted translations in all locales
+     * @throws org.springframework.dao.PessimisticLockingFailureException if any of the translations is locked
+     */
+    @Transactional(readOnly = false)
+    public int deleteAllTranslationsUnchangedSince(final Collection<Integer> identifiers, final long version) {
+        if (isEmpty(identifiers)) {
+            return 0;
+        }
+
+        final var translations = translationRepository.findAllForUpdateByIdentifierIn(identifiers);
+        final var changedIdentifiers = translations
+            .stream()
+            .filter(translation -> translation.getVersion() > version)
+            .map(Translation::getIdentifier)
+            .collect(Collectors.toSet());
+        final var deletedTranslations = translations
+            .stream()
+            .filter(translation -> !changedIdentifiers.contains(translation.getIdentifier()))
+            .toList();
+        if (deletedTranslations.isEmpty()) {
+            return 0;
+        }
+
+        translationRepository.deleteAllInBatch(deletedTranslations);
+        recordDeletions(deletedTranslations);
+        return deletedTranslations.size();
     }
 
     /**
@@ -358,7 +1040,99 @@ public class TranslationService {
             throw new InvalidRequestDataException(TranslationIdentifierAndLocaleDto.class, Map.of("locale", locale));
         }
 
-        translationRepository.deleteByIdentifierAndLocale(identifier, locale);
+        recordDeletions(translationRepository.deleteByIdentifierAndLocale(identifier, locale));
+    }
+
+    /**
+     * Deletes tombstones of translations deleted up to a given change version. Tombstones are otherwise kept forever,
+     * so that any client can learn about deletions no matter how long ago it synchronized.
+     * <p>
+     * Deletions up to the version are no longer returned as changes, so a client that last synchronized
+     * at or before it has to start over from version {@code 0} and replace its mirror. Caches of this service
+     * synchronize every {@code application.translation.cache.sync-interval}, so the version should be older than that.
+     *
+     * @param version change version
+     * @return number of deleted tombstones
+     */
+    @Transactional(readOnly = false)
+    public int deleteAllDeletionsUpTo(final long version) {
+        return translationDeletionRepository.deleteAllByVersionNotGreaterThan(version);
+    }
+
+    /**
+     * Reports created translations to the change notifier.
+     *
+     * @param translations created translations
+     */
+    private void recordCreations(final Collection<Translation> translations) {
+        translationChangeNotifier.translationsChanged(changes(translations, CREATED));
+    }
+
+    /**
+     * Reports updated translations to the change notifier.
+     *
+     * @param translations updated translations
+     */
+    private void recordUpdates(final Collection<Translation> translations) {
+        translationChangeNotifier.translationsChanged(changes(translations, UPDATED));
+    }
+
+    /**
+     * Stores tombstones of deleted translations, so that they can be returned as changes,
+     * and reports them to the change notifier.
+     *
+     * @param translations deleted translations
+     */
+    private void recordDeletions(final Collection<Translation> translations) {
+        if (!translations.isEmpty()) {
+            translationChangeNotifier.translationsChanged(changes(translations, DELETED));
+            translationDeletionRepository.saveAll(translations.stream().map(translationMapper::map).toList());
+        }
+    }
+
+    private static List<TranslationChange> changes(
+        final Collection<Translation> translations,
+        final TranslationChangeType type
+    ) {
+        return translations
+            .stream()
+            .map(translation -> new TranslationChange(translation.getIdentifier(), translation.getLocale(), type))
+            .toList();
+    }
+
+    /**
+     * Computes a hash of texts of a translation the same way as
+     * {@link TranslationRepository#findAllIdentifierAndHashByIdentifiers(Collection)}.
+     *
+     * @param localeTexts mapping of locale to text, ordered by locale
+     * @return hexadecimal MD5 hash
+     */
+    private static String hash(final SortedMap<String, String> localeTexts) {
+        final var builder = new StringBuilder();
+        localeTexts.forEach((locale, text) ->
+            builder
+                .append(locale.length())
+                .append(':')
+                .append(locale)
+                .append(text.codePointCount(0, text.length()))
+                .append(':')
+                .append(text)
+        );
+
+        try {
+            final var digest = MessageDigest.getInstance("MD5").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return function returning a shared instance of a text if text interning is enabled, or the text itself otherwise
+     */
+    private UnaryOperator<String> textInterner() {
+        final var interner = translationTextInterner.getIfAvailable();
+        return isNull(interner) ? UnaryOperator.identity() : interner::intern;
     }
 
     private Translation fetchTranslationByIdentifierAndLocale(final Integer identifier, final String locale) {
@@ -2,8 +2,12 @@ package com.kwezal.bearinmind.translation.service;
 
 import static com.kwezal.bearinmind.translation.exception.ErrorCode.*;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.translation.dto.TranslationMatrix;
+import com.kwezal.bearinmind.translation.schema.TranslationFieldSchema;
+import com.kwezal.bearinmind.translation.validation.LocaleValidator;
 import com.kwezal.bearinmind.translation.validation.annotation.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -15,6 +19,11 @@ import org.springframework.stereotype.Service;
 @Service
 class TranslationValidationService {
 
+    /**
+     * Minimum length of a search phrase, below which a trigram index cannot be used.
+     */
+    static final int MIN_SEARCH_PHRASE_LENGTH = 3;
+
     /**
      * Throws exception if a given mapping of locale to field texts does not include a given locale.
      *
@@ -24,84 +33,213 @@ class TranslationValidationService {
      */
     void validateIfTranslationsInLocaleExist(final Map<@Locale String, ?> localeMap, final String locale) {
         if (isNull(localeMap) || isNull(localeMap.get(locale))) {
-            throw new InvalidRequestDataException(
-                Map.class,
-                Map.of("localeMap", Objects.toString(localeMap), "locale", locale),
-                NO_APPLICATION_LOCALE_TRANSLATION
-            );
+            throwNoTranslationInLocale(localeMap, locale);
         }
     }
 
     /**
-     * Throws exception if a given mapping of field name to text does not include all of a given required fields.
+     * Throws exception if a given matrix of field texts is {@code null} or does not include a given locale.
      *
-     * @param fieldTextMap   mapping of field name to text
-     * @param requiredFields required field names
+     * @param localeFieldTexts matrix of field texts
+     * @param locale           locale
+     * @return index of the locale
      * @throws InvalidRequestDataException if validation fails
      */
-    void validateIfTranslationsHaveRequiredFields(final Map<String, String> fieldTextMap, final Set<String> requiredFields) {
-        if (!requiredFields.stream().allMatch(fieldTextMap::containsKey)) {
-            throw new InvalidRequestDataException(
-                Map.class,
-                Map.of("fieldTextMap", fieldTextMap, "requiredFields", requiredFields),
-                NO_REQUIRED_FIELD_IN_APPLICATION_LOCALE
-            );
+    int validateIfTranslationsInLocaleExist(final TranslationMatrix localeFieldTexts, final String locale) {
+        final var localeIndex = isNull(localeFieldTexts) ? -1 : localeFieldTexts.localeIndex(locale);
+        if (localeIndex < 0) {
+            throwNoTranslationInLocale(localeFieldTexts, locale);
+        }
+        return localeIndex;
+    }
+
+    private void throwNoTranslationInLocale(final Object localeMap, final String locale) {
+        throw new InvalidRequestDataException(
+            Map.class,
+            Map.of("localeMap", Objects.toString(localeMap), "locale", locale),
+            NO_APPLICATION_LOCALE_TRANSLATION
+        );
+    }
+
+    /**
+     * Throws exception if field texts in a given locale do not include all of a given required fields.
+     *
+     * @param localeFieldTexts matrix of field texts
+     * @param localeIndex      index of the locale
+     * @param requiredFields   required field names
+     * @throws InvalidRequestDataException if validation fails
+     */
+    void validateIfTranslationsHaveRequiredFields(
+        final TranslationMatrix localeFieldTexts,
+        final int localeIndex,
+        final Set<String> requiredFields
+    ) {
+        for (final var field : requiredFields) {
+            final var fieldIndex = localeFieldTexts.fieldIndex(field);
+            if (fieldIndex < 0 || isNull(localeFieldTexts.text(fieldIndex, localeIndex))) {
+                throw new InvalidRequestDataException(
+                    Map.class,
+                    Map.of("fieldTextMap", localeFieldTexts.fieldTexts(localeIndex), "requiredFields", requiredFields),
+                    NO_REQUIRED_FIELD_IN_APPLICATION_LOCALE
+                );
+            }
         }
     }
 
     /**
-     * Throws exception if a given mapping of field name to text includes unsupported field name.
+     * Throws exception if field texts in a given locale include unsupported field name.
      *
-     * @param fieldTextMap   mapping of field name to text
-     * @param requiredFields required field names
-     * @param optionalFields optional field names
+     * @param localeFieldTexts matrix of field texts
+     * @param localeIndex      index of the locale
+     * @param requiredFields   required field names
+     * @param optionalFields   optional field names
      * @throws InvalidRequestDataException if validation fails
      */
     void validateIfTranslationsContainOnlyExpectedFields(
-        final Map<String, String> fieldTextMap,
+        final TranslationMatrix localeFieldTexts,
+        final int localeIndex,
         final Set<String> requiredFields,
         final Set<String> optionalFields
     ) {
-        if (
-            fieldTextMap.keySet().stream().anyMatch(field -> !requiredFields.contains(field) && !optionalFields.contains(field))
-        ) {
+        for (int fieldIndex = 0; fieldIndex < localeFieldTexts.fieldCount(); fieldIndex++) {
+            final var field = localeFieldTexts.field(fieldIndex);
+            if (
+                nonNull(localeFieldTexts.text(fieldIndex, localeIndex)) &&
+                !requiredFields.contains(field) &&
+                !optionalFields.contains(field)
+            ) {
+                throw new InvalidRequestDataException(
+                    Map.class,
+                    Map.of(
+                        "fieldTextMap",
+                        localeFieldTexts.fieldTexts(localeIndex),
+                        "requiredFields",
+                        requiredFields,
+                        "optionalFields",
+                        optionalFields
+                    ),
+                    INVALID_TRANSLATION_FIELD
+                );
+            }
+        }
+    }
+
+    /**
+     * Throws exception if a given matrix of field texts defines a field in any locale that is not present in a given locale.
+     *
+     * @param localeFieldTexts matrix of field texts
+     * @param localeIndex      index of the locale
+     * @throws InvalidRequestDataException if validation fails
+     */
+    void validateIfFieldIsNotDefinedIfNotPresentInLocale(final TranslationMatrix localeFieldTexts, final int localeIndex) {
+        for (int fieldIndex = 0; fieldIndex < localeFieldTexts.fieldCount(); fieldIndex++) {
+            if (isNull(localeFieldTexts.text(fieldIndex, localeIndex)) && isDefinedInAnyLocale(localeFieldTexts, fieldIndex)) {
+                throwFieldNotPresentInLocale(localeFieldTexts, localeIndex);
+            }
+        }
+    }
+
+    /**
+     * Throws exception if a given matrix of field texts does not conform to a given schema.
+     * The matrix is validated in a single pass, representing sets of fields as bitmasks.
+     * <ul>
+     *     <li>The application locale has to be present.</li>
+     *     <li>Required fields have to be present in the application locale.</li>
+     *     <li>Fields other than required and optional are not allowed.</li>
+     *     <li>Fields can only be defined in other locales if they are present in the application locale.</li>
+     * </ul>
+     *
+     * @param schema            translation field schema
+     * @param localeFieldTexts  matrix of field texts
+     * @param applicationLocale application locale
+     * @return index of the application locale
+     * @throws InvalidRequestDataException if validation fails
+     */
+    int validateFieldSchema(
+        final TranslationFieldSchema schema,
+        final TranslationMatrix localeFieldTexts,
+        final String applicationLocale
+    ) {
+        final var localeIndex = validateIfTranslationsInLocaleExist(localeFieldTexts, applicationLocale);
+
+        var presentMask = 0L;
+        var hasUnexpectedField = false;
+        var hasFieldNotPresentInLocale = false;
+        for (int fieldIndex = 0; fieldIndex < localeFieldTexts.fieldCount(); fieldIndex++) {
+            if (nonNull(localeFieldTexts.text(fieldIndex, localeIndex))) {
+                final var bit = schema.bit(localeFieldTexts.field(fieldIndex));
+                presentMask |= bit;
+                hasUnexpectedField |= bit == 0;
+            } else {
+                hasFieldNotPresentInLocale |= isDefinedInAnyLocale(localeFieldTexts, fieldIndex);
+            }
+        }
+
+        if ((schema.requiredMask() & ~presentMask) != 0) {
             throw new InvalidRequestDataException(
                 Map.class,
-                Map.of("fieldTextMap", fieldTextMap, "requiredFields", requiredFields, "optionalFields", optionalFields),
+                Map.of("fieldTextMap", localeFieldTexts.fieldTexts(localeIndex), "schema", schema.name()),
+                NO_REQUIRED_FIELD_IN_APPLICATION_LOCALE
+            );
+        }
+
+        if (hasUnexpectedField) {
+            throw new InvalidRequestDataException(
+                Map.class,
+                Map.of("fieldTextMap", localeFieldTexts.fieldTexts(localeIndex), "schema", schema.name()),
                 INVALID_TRANSLATION_FIELD
             );
         }
+
+        if (hasFieldNotPresentInLocale) {
+            throwFieldNotPresentInLocale(localeFieldTexts, localeIndex);
+        }
+
+        return localeIndex;
+    }
+
+    private boolean isDefinedInAnyLocale(final TranslationMatrix localeFieldTexts, final int fieldIndex) {
+        for (int localeIndex = 0; localeIndex < localeFieldTexts.localeCount(); localeIndex++) {
+            if (nonNull(localeFieldTexts.text(fieldIndex, localeIndex))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void throwFieldNotPresentInLocale(final TranslationMatrix localeFieldTexts, final int localeIndex) {
+        throw new InvalidRequestDataException(
+            Map.class,
+            Map.of("localeFieldTextsMap", localeFieldTexts.toMap(), "fieldTextMap", localeFieldTexts.fieldTexts(localeIndex)),
+            OPTIONAL_FIELD_DEFINED_BUT_NOT_PRESENT_IN_APPLICATION_LOCALE
+        );
     }
 
     /**
-     * Throws exception if a given mapping of locale to field texts defines a field that is not present in a given mapping of field name to text.
+     * Throws exception if a given search phrase is too short to be searched for with a trigram index.
      *
-     * @param localeFieldTextsMap mapping of locale to field texts
-     * @param fieldTextMap        mapping of field name to text
+     * @param phrase search phrase
      * @throws InvalidRequestDataException if validation fails
      */
-    void validateIfFieldIsNotDefinedIfNotPresentInLocale(
-        final Map<@Locale String, Map<String, String>> localeFieldTextsMap,
-        final Map<String, String> fieldTextMap
-    ) {
-        if (hasOptionalFieldNotPresentInLocale(localeFieldTextsMap, fieldTextMap)) {
+    void validateSearchPhrase(final String phrase) {
+        if (isNull(phrase) || phrase.strip().length() < MIN_SEARCH_PHRASE_LENGTH) {
             throw new InvalidRequestDataException(
-                Map.class,
-                Map.of("localeFieldTextsMap", localeFieldTextsMap, "fieldTextMap", fieldTextMap),
-                OPTIONAL_FIELD_DEFINED_BUT_NOT_PRESENT_IN_APPLICATION_LOCALE
+                String.class,
+                Map.of("phrase", Objects.toString(phrase), "minLength", MIN_SEARCH_PHRASE_LENGTH),
+                SEARCH_PHRASE_TOO_SHORT
             );
         }
     }
 
-    private boolean hasOptionalFieldNotPresentInLocale(
-        final Map<String, Map<String, String>> localeFieldTextsMap,
-        final Map<String, String> fieldTextMap
-    ) {
-        final var fieldTextsMap = localeFieldTextsMap.values();
-        return fieldTextsMap
-            .stream()
-            .flatMap(fieldTexts -> fieldTexts.keySet().stream())
-            .distinct()
-            .anyMatch(key -> !fieldTextMap.containsKey(key));
+    /**
+     * Throws exception if a given value is not a locale.
+     *
+     * @param locale locale
+     * @throws InvalidRequestDataException if validation fails
+     */
+    void validateLocale(final String locale) {
+        if (isNull(locale) || !LocaleValidator.isLocale(locale)) {
+            throw new InvalidRequestDataException(String.class, Map.of("locale", Objects.toString(locale)), INVALID_LOCALE);
+        }
     }
 }
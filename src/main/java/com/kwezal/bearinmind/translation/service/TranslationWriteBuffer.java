@@ -0,0 +1,188 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.nonNull;
+
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndLocaleDto;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+/**
+ * Buffers frequent writes of translation texts, e.g. autosaves of an editor, and writes them in a single transaction.
+ * <ul>
+ *     <li>Successive writes of a text in the same locale are coalesced, only the last one is written.</li>
+ *     <li>Buffered writes are flushed when their number reaches a configured size, every flush interval,
+ *     on {@link #flush()} and on shutdown.</li>
+ *     <li>A write is durable only once its future has completed. Writes still buffered when the application instance
+ *     terminates abnormally are lost.</li>
+ *     <li>Buffered writes are not visible to reads until they are flushed. Call {@link #flush()} or wait for the future
+ *     before reading a written text.</li>
+ *     <li>If a batch fails, its writes are retried one by one, so that an invalid write fails only its own future.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@ConditionalOnExpression(
+    "${application.translation.write-buffer.enabled:false} and !${application.translation.tenancy.enabled:false}"
+)
+public class TranslationWriteBuffer implements SmartLifecycle {
+
+    private final TranslationService translationService;
+    private final int maxSize;
+    private final Duration flushInterval;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Map<TranslationIdentifierAndLocaleDto, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private ScheduledExecutorService executor;
+
+    public TranslationWriteBuffer(
+        final TranslationService translationService,
+        @Value("${application.translation.write-buffer.max-size:500}") final int maxSize,
+        @Value("${application.translation.write-buffer.flush-interval:200ms}") final Duration flushInterval
+    ) {
+        this.translationService = translationService;
+        this.maxSize = maxSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Buffers a text of an existing translation in a given locale, like {@link TranslationService#upsertTranslations}.
+     *
+     * @param identifier translation identifier
+     * @param locale     locale
+     * @param text       translation text
+     * @return future completed when the text, or a text written after it in the same locale, has been committed;
+     * if the buffer is not running, the text is written before returning
+     */
+    public CompletableFuture<Void> write(final Integer identifier, final String locale, final String text) {
+        final CompletableFuture<Void> future;
+        final boolean isFull;
+        final boolean isRunning;
+        synchronized (this) {
+            final var pendingWrite = pendingWrites.computeIfAbsent(
+                new TranslationIdentifierAndLocaleDto(identifier, locale),
+                key -> new PendingWrite()
+            );
+            pendingWrite.text = text;
+            future = pendingWrite.future;
+            isFull = pendingWrites.size() >= maxSize;
+            isRunning = nonNull(executor);
+        }
+
+        if (!isRunning) {
+            // Nothing would flush the write later
+            flushSafely();
+        } else if (isFull) {
+            submitFlush();
+        }
+        return future;
+    }
+
+    /**
+     * Writes all buffered texts and waits until they have been committed,
+     * including texts being written by a flush that started earlier.
+     *
+     * @return number of written texts
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            final Map<TranslationIdentifierAndLocaleDto, PendingWrite> writes;
+            synchronized (this) {
+                writes = pendingWrites;
+                pendingWrites = new LinkedHashMap<>();
+            }
+
+            if (!writes.isEmpty()) {
+                write(writes);
+            }
+            return writes.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public synchronized int size() {
+        return pendingWrites.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "translation-write-buffer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.scheduleWithFixedDelay(
+            this::flushSafely,
+            flushInterval.toMillis(),
+            flushInterval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this) {
+            if (nonNull(executor)) {
+                // A flush in progress is not interrupted, the final flush waits for it
+                executor.shutdown();
+                executor = null;
+            }
+        }
+        flushSafely();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return nonNull(executor);
+    }
+
+    private void write(final Map<TranslationIdentifierAndLocaleDto, PendingWrite> writes) {
+        final var localeTexts = new LinkedHashMap<TranslationIdentifierAndLocaleDto, String>();
+        writes.forEach((key, pendingWrite) -> localeTexts.put(key, pendingWrite.text));
+        try {
+            translationService.upsertTranslations(localeTexts);
+            writes.values().forEach(pendingWrite -> pendingWrite.future.complete(null));
+        } catch (RuntimeException e) {
+            if (writes.size() == 1) {
+                writes.values().forEach(pendingWrite -> pendingWrite.future.completeExceptionally(e));
+                return;
+            }
+
+            log.debug("Could not write {} buffered translations at once, writing them one by one", writes.size(), e);
+            writes.forEach((key, pendingWrite) -> write(Map.of(key, pendingWrite)));
+        }
+    }
+
+    private synchronized void submitFlush() {
+        if (nonNull(executor)) {
+            executor.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush buffered translations", e);
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private String text;
+    }
+}
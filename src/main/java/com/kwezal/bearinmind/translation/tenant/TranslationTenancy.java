@@ -0,0 +1,125 @@
+package com.kwezal.bearinmind.translation.tenant;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Isolates translations of tenants sharing a database by keeping them in separate schemas.
+ * <ul>
+ *     <li>Each tenant has its own tables, indexes and sequences, so a tenant never locks or scans rows of other tenants,
+ *     and translation identifiers are allocated per tenant.</li>
+ *     <li>Every session of the persistence context sets the search path to the schema of the tenant resolved
+ *     by the {@link TranslationTenantResolver} when it is opened, so all queries are limited to that schema.</li>
+ *     <li>Translations of threads without a tenant are kept in the default schema.</li>
+ * </ul>
+ * Schemas are not created automatically, the translation changelog has to be run for each of them.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.translation.tenancy", name = "enabled", havingValue = "true")
+public class TranslationTenancy implements CurrentTenantIdentifierResolver, HibernatePropertiesCustomizer {
+
+    // Identifiers longer than 63 bytes are truncated by PostgreSQL
+    private static final Pattern SCHEMA_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSource dataSource;
+    private final TranslationTenantResolver tenantResolver;
+    private final String schemaPrefix;
+    private final String defaultSchema;
+
+    private final ThreadLocal<String> assumedSchema = new ThreadLocal<>();
+
+    public TranslationTenancy(
+        final DataSource dataSource,
+        final TranslationTenantResolver tenantResolver,
+        @Value("${application.translation.tenancy.schema-prefix:translations_}") final String schemaPrefix,
+        @Value("${application.translation.tenancy.default-schema:public}") final String defaultSchema
+    ) {
+        this.dataSource = dataSource;
+        this.tenantResolver = tenantResolver;
+        this.schemaPrefix = schemaPrefix;
+        this.defaultSchema = validateSchema(defaultSchema);
+    }
+
+    /**
+     * @return schema of the tenant whose translations are accessed by the current thread
+     */
+    public String currentSchema() {
+        final var schema = assumedSchema.get();
+        return nonNull(schema) ? schema : schemaOf(tenantResolver.resolveTenant());
+    }
+
+    /**
+     * Finds a schema with translations of a given tenant.
+     *
+     * @param tenant tenant identifier or {@code null}
+     * @return tenant schema or the default schema if the tenant is {@code null}
+     * @throws IllegalArgumentException if the tenant identifier cannot be a part of a schema name
+     */
+    public String schemaOf(final String tenant) {
+        return isNull(tenant) ? defaultSchema : validateSchema(schemaPrefix + tenant);
+    }
+
+    /**
+     * Accesses translations in a given schema, regardless of the tenant resolved for the current thread,
+     * e.g. to continue work of a tenant in a background thread.
+     * It has no effect on a transaction that is already in progress.
+     *
+     * @param schema   schema returned by {@link #currentSchema()}
+     * @param supplier function accessing translations
+     * @param <T>      result type
+     * @return function result
+     */
+    public <T> T callAs(final String schema, final Supplier<T> supplier) {
+        final var previousSchema = assumedSchema.get();
+        assumedSchema.set(schema);
+        try {
+            return supplier.get();
+        } finally {
+            if (isNull(previousSchema)) {
+                assumedSchema.remove();
+            } else {
+                assumedSchema.set(previousSchema);
+            }
+        }
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return currentSchema();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.SCHEMA);
+        hibernateProperties.put(
+            AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+            new TranslationTenantConnectionProvider(dataSource)
+        );
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+
+    private static String validateSchema(final String schema) {
+        if (!SCHEMA_PATTERN.matcher(schema).matches()) {
+            throw new IllegalArgumentException("Invalid translation schema " + schema);
+        }
+
+        return schema;
+    }
+}
@@ -0,0 +1,71 @@
+package com.kwezal.bearinmind.translation.tenant;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+
+/**
+ * Provides pooled connections whose search path is limited to the schema of a tenant.
+ * A table missing in the schema is reported as an error instead of being looked up in other schemas.
+ */
+class TranslationTenantConnectionProvider implements MultiTenantConnectionProvider {
+
+    private final DataSource dataSource;
+
+    TranslationTenantConnectionProvider(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(final Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(final String schema) throws SQLException {
+        final var connection = getAnyConnection();
+        try {
+            connection.setSchema(schema);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(final String schema, final Connection connection) throws SQLException {
+        // Other users of the pool must not access the schema by accident
+        try (connection; final var statement = connection.createStatement()) {
+            statement.execute("RESET search_path");
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean isUnwrappableAs(final Class unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(final Class<T> unwrapType) {
+        if (!isUnwrappableAs(unwrapType)) {
+            throw new UnknownUnwrapTypeException(unwrapType);
+        }
+
+        return (T) this;
+    }
+}
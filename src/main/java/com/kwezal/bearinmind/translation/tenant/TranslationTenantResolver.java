@@ -0,0 +1,13 @@
+package com.kwezal.bearinmind.translation.tenant;
+
+/**
+ * Resolves the tenant, e.g. an institution, whose translations are accessed by the current thread.
+ * Required if multi-tenancy is enabled.
+ */
+public interface TranslationTenantResolver {
+    /**
+     * @return identifier of the current tenant, consisting of lower case letters, digits and underscores,
+     * or {@code null} to access translations in the default schema
+     */
+    String resolveTenant();
+}
@@ -1,6 +1,8 @@
 package com.kwezal.bearinmind.translation.utils;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -19,4 +21,23 @@ public class CollectionUtils {
 
         return result;
     }
+
+    /**
+     * Splits a list into consecutive sublists of a given size. The last sublist may be smaller.
+     *
+     * @param list list
+     * @param size maximum size of a sublist
+     * @return views of sublists
+     */
+    public static <T> List<List<T>> partition(final List<T> list, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Partition size must be positive");
+        }
+
+        final var result = new ArrayList<List<T>>((list.size() + size - 1) / size);
+        for (int from = 0; from < list.size(); from += size) {
+            result.add(list.subList(from, Math.min(from + size, list.size())));
+        }
+        return result;
+    }
 }
@@ -21,6 +21,16 @@ public class LocaleValidator implements ConstraintValidator<Locale, String> {
             return allowEmpty;
         }
 
+        return isLocale(value);
+    }
+
+    /**
+     * Checks if a given non-empty value consists of two lowercase letters, optionally followed by two uppercase letters.
+     *
+     * @param value value
+     * @return {@code true} if the value is a locale
+     */
+    public static boolean isLocale(final String value) {
         final var length = value.length();
         return (
             (length == 2 || length == 4) &&
@@ -29,11 +39,11 @@ public class LocaleValidator implements ConstraintValidator<Locale, String> {
         );
     }
 
-    private boolean isLowerCaseLatin(final char ch) {
+    private static boolean isLowerCaseLatin(final char ch) {
         return ch >= 'a' && ch <= 'z';
     }
 
-    private boolean isUpperCaseLatin(final char ch) {
+    private static boolean isUpperCaseLatin(final char ch) {
         return ch >= 'A' && ch <= 'Z';
     }
 }
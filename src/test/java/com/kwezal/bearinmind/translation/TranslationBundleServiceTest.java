@@ -0,0 +1,76 @@
+package com.kwezal.bearinmind.translation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.translation.service.TranslationBundleService;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+@SpringBootTest
+@Sql(
+    scripts = "/com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class TranslationBundleServiceTest {
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Autowired
+    private TranslationBundleService translationBundleService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Test
+    void Should_ReturnBundleWithFallbackTexts_When_LocaleIsValid() {
+        // GIVEN
+        final var locale = "da";
+
+        // WHEN
+        final var result = translationBundleService.findBundle(locale);
+
+        // THEN
+        assertEquals(Optional.of("Monolingual text"), result.findText(1));
+        assertEquals(Optional.of("Flersproget tekst"), result.findText(2));
+        assertEquals(Optional.empty(), result.findText(TestConstants.NONEXISTENT_TRANSLATION_IDENTIFIER));
+        assertNotNull(result.etag());
+    }
+
+    @Test
+    void Should_UpdateBundle_When_TranslationsChanged() {
+        // GIVEN
+        final var locale = "da";
+        final var bundle = translationBundleService.findBundle(locale);
+
+        final var text = "Oversat tekst";
+        final var identifier = translationService.createMultilingualTranslation(
+            Map.of(applicationLocale, "Translated text", locale, text)
+        );
+
+        // WHEN
+        final var result = translationBundleService.findBundle(locale);
+
+        // THEN
+        assertEquals(Optional.of(text), result.findText(identifier));
+        assertNotEquals(bundle.etag(), result.etag());
+    }
+
+    @Test
+    void Should_ThrowInvalidRequestDataException_When_AttemptToFindBundleWithIncorrectLocale() {
+        // GIVEN
+        final var locale = "../da";
+
+        // THEN
+        assertThrows(InvalidRequestDataException.class, () -> translationBundleService.findBundle(locale));
+    }
+}
@@ -0,0 +1,91 @@
+package com.kwezal.bearinmind.translation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.translation.cache.OffHeapTranslationCache;
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
+import com.kwezal.bearinmind.translation.service.TranslationCacheSynchronizer;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.util.unit.DataSize;
+
+@SpringBootTest
+@Sql(
+    scripts = "/com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class TranslationCacheSynchronizerTest {
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final OffHeapTranslationCache translationCache = new OffHeapTranslationCache(
+        DataSize.ofKilobytes(4),
+        DataSize.ofKilobytes(1)
+    );
+
+    @Test
+    void Should_EvictTranslation_When_TransactionStartedBeforeSynchronizationCommitsAfterIt() throws SQLException {
+        // GIVEN
+        final var synchronizer = new TranslationCacheSynchronizer(translationService, translationCache);
+        final var identifier = translationService.createTranslation(new TranslationTextDto("Slow translation"));
+        final var otherIdentifier = translationService.createTranslation(new TranslationTextDto("Fast translation"));
+        synchronizer.synchronize();
+        translationCache.put(
+            identifier,
+            applicationLocale,
+            new TranslationTextAndLocaleDto("Slow translation", applicationLocale),
+            translationCache.generation()
+        );
+
+        try (
+            final var earlierTransaction = dataSource.getConnection();
+            final var laterTransaction = dataSource.getConnection()
+        ) {
+            earlierTransaction.setAutoCommit(false);
+            updateText(earlierTransaction, identifier, "Updated slow translation");
+            laterTransaction.setAutoCommit(false);
+            updateText(laterTransaction, otherIdentifier, "Updated fast translation");
+            laterTransaction.commit();
+
+            synchronizer.synchronize();
+            earlierTransaction.commit();
+
+            // WHEN
+            synchronizer.synchronize();
+        }
+
+        // THEN
+        assertEquals(Optional.empty(), translationCache.get(identifier, applicationLocale));
+    }
+
+    private void updateText(Connection connection, int identifier, String text) throws SQLException {
+        try (
+            final var statement = connection.prepareStatement(
+                "UPDATE translations SET text = ?, version = translation_version() WHERE identifier = ? AND locale = ?"
+            )
+        ) {
+            statement.setString(1, text);
+            statement.setInt(2, identifier);
+            statement.setString(3, applicationLocale);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.kwezal.bearinmind.translation;
+
+import static com.kwezal.bearinmind.translation.TestConstants.*;
+import static com.kwezal.bearinmind.translation.event.TranslationChangeType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto;
+import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
+import com.kwezal.bearinmind.translation.event.TranslationChange;
+import com.kwezal.bearinmind.translation.event.TranslationChangeEvent;
+import com.kwezal.bearinmind.translation.event.TranslationChangeType;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenantResolver;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+@SpringBootTest(
+    properties = {
+        "application.translation.tenancy.enabled=true",
+        "application.translation.cache.enabled=true",
+        "application.translation.cache.sync-interval=1h",
+    }
+)
+class TranslationMultiTenancyTest {
+
+    private static final String UNIVERSITY = "university";
+    private static final String SCHOOL = "school";
+    private static final String UNIVERSITY_SCHEMA = "translations_university";
+    private static final String SCHOOL_SCHEMA = "translations_school";
+
+    private static final String CHANGELOG = "classpath:com/kwezal/bearinmind/translation/db/changelog/changelog-master.yml";
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private ChangeEventRecorder changeEventRecorder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        for (final var schema : List.of(UNIVERSITY_SCHEMA, SCHOOL_SCHEMA)) {
+            try (final var connection = dataSource.getConnection()) {
+                connection.setSchema(schema);
+                ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("/com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql")
+                );
+                try (final var statement = connection.createStatement()) {
+                    statement.execute("RESET search_path");
+                }
+            }
+        }
+        changeEventRecorder.events.clear();
+    }
+
+    @Test
+    void Should_KeepTranslationsOfTenantsApart_When_TenantsWriteTranslations() {
+        // WHEN
+        final var universityIdentifier = createTranslation(UNIVERSITY, "Lecture");
+        final var schoolIdentifier = createTranslation(SCHOOL, "Lesson");
+        runAs(SCHOOL, () -> translationService.updateTranslation(1, "en", "School text"));
+
+        // THEN
+        assertEquals(TRANSLATION_IDENTIFIER_SEQUENCE_START, universityIdentifier);
+        assertEquals(TRANSLATION_IDENTIFIER_SEQUENCE_START, schoolIdentifier);
+        assertEquals("Lecture", findText(UNIVERSITY, universityIdentifier));
+        assertEquals("Lesson", findText(SCHOOL, schoolIdentifier));
+        assertEquals("Monolingual text", findText(UNIVERSITY, 1));
+        assertEquals("School text", findText(SCHOOL, 1));
+        assertEquals(0, countTranslations("public", "Lecture") + countTranslations("public", "Lesson"));
+        assertEquals(
+            List.of(
+                new TranslationChangeEvent(List.of(change(universityIdentifier, CREATED)), UNIVERSITY_SCHEMA),
+                new TranslationChangeEvent(List.of(change(schoolIdentifier, CREATED)), SCHOOL_SCHEMA),
+                new TranslationChangeEvent(List.of(change(1, UPDATED)), SCHOOL_SCHEMA)
+            ),
+            changeEventRecorder.events
+        );
+    }
+
+    @Test
+    void Should_FindChangesOfTenantOnly_When_FindingChangesSinceVersion() {
+        // GIVEN
+        final var universityVersion = as(UNIVERSITY, translationService::findLatestVersion);
+        final var schoolVersion = as(SCHOOL, translationService::findLatestVersion);
+        final var identifier = createTranslation(UNIVERSITY, "Seminar");
+
+        // WHEN
+        final var universityChanges = as(UNIVERSITY, () -> translationService.findChangesSince(universityVersion, "en"));
+        final var schoolChanges = as(SCHOOL, () -> translationService.findChangesSince(schoolVersion, "en"));
+
+        // THEN
+        assertEquals(List.of(new TranslationIdentifierAndTextDto(identifier, "Seminar")), universityChanges.upserts());
+        assertEquals(List.of(), schoolChanges.upserts());
+        assertEquals(List.of(), schoolChanges.deletions());
+    }
+
+    @Test
+    void Should_EvictCachedTextsOfTenantOnly_When_TenantChangesTranslation() {
+        // GIVEN
+        final var identifier = createTranslation(UNIVERSITY, "Exam");
+        createTranslation(SCHOOL, "Test");
+        assertEquals("Exam", findText(UNIVERSITY, identifier));
+        assertEquals("Test", findText(SCHOOL, identifier));
+        // Changed bypassing the service, so that only the cached text of the school is returned
+        new JdbcTemplate(dataSource)
+            .update("UPDATE translations_school.translations SET text = 'Quiz' WHERE identifier = ?", identifier);
+
+        // WHEN
+        runAs(UNIVERSITY, () -> translationService.updateTranslation(identifier, "en", "Final exam"));
+
+        // THEN
+        assertEquals("Final exam", findText(UNIVERSITY, identifier));
+        assertEquals("Test", findText(SCHOOL, identifier));
+    }
+
+    @Test
+    void Should_ResetSearchPath_When_TenantConnectionIsReleased() throws SQLException {
+        // GIVEN
+        findText(UNIVERSITY, 1);
+        createTranslation(SCHOOL, "Homework");
+
+        // WHEN
+        final var connections = new ArrayList<Connection>();
+        final var searchPaths = new ArrayList<String>();
+        try {
+            for (var i = 0; i < 4; i++) {
+                final var connection = dataSource.getConnection();
+                connections.add(connection);
+                try (
+                    final var statement = connection.createStatement();
+                    final var resultSet = statement.executeQuery("SHOW search_path")
+                ) {
+                    resultSet.next();
+                    searchPaths.add(resultSet.getString(1));
+                }
+            }
+        } finally {
+            for (final var connection : connections) {
+                connection.close();
+            }
+        }
+
+        // THEN
+        assertEquals(List.of("\"$user\", public", "\"$user\", public", "\"$user\", public", "\"$user\", public"), searchPaths);
+        assertEquals(0, countTranslations("public", "Homework"));
+        assertEquals(1, countTranslations(SCHOOL_SCHEMA, "Homework"));
+    }
+
+    private Integer createTranslation(final String tenant, final String text) {
+        return as(tenant, () -> translationService.createTranslation(new TranslationTextDto(text)));
+    }
+
+    private String findText(final String tenant, final Integer identifier) {
+        return as(tenant, () -> translationService.findTextByIdentifierAndLocale(identifier, "en"));
+    }
+
+    private int countTranslations(final String schema, final String text) {
+        return new JdbcTemplate(dataSource).queryForObject(
+            "SELECT count(*) FROM " + schema + ".translations WHERE text = ?",
+            Integer.class,
+            text
+        );
+    }
+
+    private static <T> T as(final String tenant, final Supplier<T> supplier) {
+        TENANT.set(tenant);
+        try {
+            return supplier.get();
+        } finally {
+            TENANT.remove();
+        }
+    }
+
+    private static void runAs(final String tenant, final Runnable runnable) {
+        as(
+            tenant,
+            () -> {
+                runnable.run();
+                return null;
+            }
+        );
+    }
+
+    private static TranslationChange change(final int identifier, final TranslationChangeType type) {
+        return new TranslationChange(identifier, "en", type);
+    }
+
+    @TestConfiguration
+    static class TenantConfiguration {
+
+        @Bean
+        TranslationTenantResolver translationTenantResolver() {
+            return TENANT::get;
+        }
+
+        @Bean
+        ChangeEventRecorder changeEventRecorder() {
+            return new ChangeEventRecorder();
+        }
+
+        // Run after the default schema has been migrated, as tenant schemas use its pg_trgm extension
+        @Bean
+        @DependsOn("liquibase")
+        InitializingBean tenantSchemaMigration(final DataSource dataSource) {
+            return () -> {
+                for (final var schema : List.of(UNIVERSITY_SCHEMA, SCHOOL_SCHEMA)) {
+                    try (
+                        final var connection = dataSource.getConnection();
+                        final var statement = connection.createStatement()
+                    ) {
+                        statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+                        statement.execute("CREATE SCHEMA " + schema);
+                        // Changesets refer to tables, sequences and functions without a schema
+                        statement.execute("SET search_path TO " + schema + ", public");
+                        try {
+                            final var liquibase = new SpringLiquibase();
+                            liquibase.setDataSource(new SingleConnectionDataSource(connection, true));
+                            liquibase.setResourceLoader(new DefaultResourceLoader());
+                            liquibase.setChangeLog(CHANGELOG);
+                            liquibase.setDefaultSchema(schema);
+                            liquibase.setLiquibaseSchema(schema);
+                            liquibase.setChangeLogParameters(Map.of("translation.sort.locales", "en,da"));
+                            liquibase.afterPropertiesSet();
+                        } finally {
+                            statement.execute("RESET search_path");
+                        }
+                    }
+                }
+            };
+        }
+    }
+
+    static class ChangeEventRecorder {
+
+        private final List<TranslationChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onTranslationChange(final TranslationChangeEvent event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.kwezal.bearinmind.translation;
+
+import static com.kwezal.bearinmind.translation.utils.CollectionUtils.swapMapKeys;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import com.kwezal.bearinmind.translation.utils.StatementCounter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+/**
+ * Guards the number of statements created by {@link TranslationService} methods.
+ * Budgets are expressed as a function of the number of fields and locales of a payload,
+ * so that a statement issued per field or locale where a constant number is expected fails the test.
+ */
+@SpringBootTest
+@Import(StatementCounter.class)
+@Sql(
+    scripts = "/com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class TranslationServiceStatementBudgetTest {
+
+    /**
+     * Maximum number of statements of a call with a given number of fields (translations) and locales.
+     * A writing call reads its change version once. A translation costs a statement to generate its identifier
+     * when created or to load it when updated, an inserted or updated row 1 and a deleted row 2 (delete and tombstone).
+     */
+    private interface StatementBudget {
+        long of(int fields, int locales);
+    }
+
+    private static final StatementBudget CREATE_TRANSLATION = (fields, locales) -> 3;
+    private static final StatementBudget CREATE_MULTILINGUAL_TRANSLATION = (fields, locales) -> 2 + locales;
+    private static final StatementBudget CREATE_MULTILINGUAL_TRANSLATIONS = (fields, locales) -> 1 + fields * (1L + locales);
+    private static final StatementBudget UPDATE_TRANSLATION = (fields, locales) -> 3;
+    private static final StatementBudget UPDATE_MULTILINGUAL_TRANSLATION = (fields, locales) -> 2 + locales;
+    private static final StatementBudget UPDATE_MULTILINGUAL_TRANSLATIONS = (fields, locales) -> 1 + fields * (1L + locales);
+    private static final StatementBudget FIND_TEXT = (fields, locales) -> 1;
+    private static final StatementBudget FIND_TEXTS = (fields, locales) -> 1;
+    private static final StatementBudget FIND_LOCALE_MATRIX = (fields, locales) -> 1;
+    private static final StatementBudget SYNC_UNCHANGED_TRANSLATIONS = (fields, locales) -> 1;
+    private static final StatementBudget CLONE_TRANSLATIONS = (fields, locales) -> 1;
+    private static final StatementBudget DELETE_ALL_TRANSLATION = (fields, locales) -> 1 + 2L * locales;
+
+    private static final List<String> LOCALES = List.of("pl", "da", "de", "fr", "es", "it", "nl", "sv", "cs", "pt", "uk");
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    void Should_StayWithinBudget_When_CreatingAndUpdatingSingleTranslation() {
+        // GIVEN
+        final var identifier = new Integer[1];
+
+        // THEN
+        statementCounter.assertWithinBudget(
+            "createTranslation",
+            CREATE_TRANSLATION.of(1, 1),
+            () -> identifier[0] = translationService.createTranslation(new TranslationTextDto("Text"))
+        );
+        statementCounter.assertWithinBudget(
+            "updateTranslation",
+            UPDATE_TRANSLATION.of(1, 1),
+            () -> translationService.updateTranslation(identifier[0], applicationLocale, "Updated text")
+        );
+        statementCounter.assertWithinBudget(
+            "findTextByIdentifierAndLocale",
+            FIND_TEXT.of(1, 1),
+            () -> translationService.findTextByIdentifierAndLocale(identifier[0], LOCALES.get(0))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 10 })
+    void Should_StayWithinBudget_When_CreatingUpdatingAndDeletingMultilingualTranslation(int locales) {
+        // GIVEN
+        final var localeTexts = new HashMap<String, String>();
+        final var updatedLocaleTexts = new HashMap<String, String>();
+        localeFieldTexts(1, locales, "Text").forEach((locale, fieldTexts) -> localeTexts.put(locale, fieldTexts.get("field0")));
+        localeTexts.forEach((locale, text) -> updatedLocaleTexts.put(locale, "Updated " + text));
+        final var identifier = new Integer[1];
+
+        // THEN
+        statementCounter.assertWithinBudget(
+            "createMultilingualTranslation",
+            CREATE_MULTILINGUAL_TRANSLATION.of(1, locales),
+            () -> identifier[0] = translationService.createMultilingualTranslation(localeTexts)
+        );
+        statementCounter.assertWithinBudget(
+            "updateMultilingualTranslation",
+            UPDATE_MULTILINGUAL_TRANSLATION.of(1, locales),
+            () -> translationService.updateMultilingualTranslation(identifier[0], updatedLocaleTexts)
+        );
+        statementCounter.assertWithinBudget(
+            "deleteAllTranslationBy",
+            DELETE_ALL_TRANSLATION.of(1, locales),
+            () -> translationService.deleteAllTranslationBy(identifier[0])
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("Payload_Source")
+    void Should_StayWithinBudget_When_CreatingUpdatingAndFindingMultilingualTranslations(int fields, int locales) {
+        // GIVEN
+        final var localeFieldTexts = localeFieldTexts(fields, locales, "Text");
+        final var updatedLocaleFieldTexts = localeFieldTexts(fields, locales, "Updated text");
+        final var requiredFields = new HashSet<>(localeFieldTexts.get(applicationLocale).keySet());
+        final var fieldIdentifiers = new HashMap<String, Integer>();
+
+        // THEN
+        statementCounter.assertWithinBudget(
+            "createMultilingualTranslations",
+            CREATE_MULTILINGUAL_TRANSLATIONS.of(fields, locales),
+            () ->
+                fieldIdentifiers.putAll(
+                    translationService.createMultilingualTranslations(localeFieldTexts, requiredFields, Set.of())
+                )
+        );
+        statementCounter.assertWithinBudget(
+            "updateMultilingualTranslations",
+            UPDATE_MULTILINGUAL_TRANSLATIONS.of(fields, locales),
+            () -> translationService.updateMultilingualTranslations(fieldIdentifiers, updatedLocaleFieldTexts)
+        );
+        statementCounter.assertWithinBudget(
+            "findAllIdentifierAndTextByIdentifiersAndLocale",
+            FIND_TEXTS.of(fields, locales),
+            () -> translationService.findAllIdentifierAndTextByIdentifiersAndLocale(fieldIdentifiers.values(), LOCALES.get(0))
+        );
+        statementCounter.assertWithinBudget(
+            "findLocaleMatrix",
+            FIND_LOCALE_MATRIX.of(fields, locales),
+            () -> translationService.findLocaleMatrix(fieldIdentifiers.values(), null)
+        );
+        final var catalog = new HashMap<Integer, Map<String, String>>();
+        swapMapKeys(updatedLocaleFieldTexts)
+            .forEach((field, localeTexts) -> catalog.put(fieldIdentifiers.get(field), localeTexts));
+        statementCounter.assertWithinBudget(
+            "syncTranslations",
+            SYNC_UNCHANGED_TRANSLATIONS.of(fields, locales),
+            () -> translationService.syncTranslations(catalog)
+        );
+        statementCounter.assertWithinBudget(
+            "cloneTranslations",
+            CLONE_TRANSLATIONS.of(fields, locales),
+            () -> translationService.cloneTranslations(fieldIdentifiers.values())
+        );
+    }
+
+    private static Stream<Arguments> Payload_Source() {
+        return Stream.of(Arguments.of(1, 1), Arguments.of(5, 3), Arguments.of(20, 10));
+    }
+
+    private Map<String, Map<String, String>> localeFieldTexts(final int fields, final int locales, final String text) {
+        final var localeFieldTexts = new LinkedHashMap<String, Map<String, String>>();
+        for (int i = 0; i < locales; i++) {
+            final var locale = i == 0 ? applicationLocale : LOCALES.get(i - 1);
+            final var fieldTexts = new LinkedHashMap<String, String>();
+            for (int j = 0; j < fields; j++) {
+                fieldTexts.put("field" + j, text + " " + j + " " + locale);
+            }
+            localeFieldTexts.put(locale, fieldTexts);
+        }
+        return localeFieldTexts;
+    }
+}
@@ -6,17 +6,26 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.kwezal.bearinmind.exception.InvalidRequestDataException;
 import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationSyncSummaryDto;
 import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
 import com.kwezal.bearinmind.translation.model.Translation;
 import com.kwezal.bearinmind.translation.repository.TranslationRepository;
+import com.kwezal.bearinmind.translation.schema.TranslationFieldSchemaRegistry;
 import com.kwezal.bearinmind.translation.service.TranslationService;
 import com.kwezal.bearinmind.translation.utils.CollectionUtils;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -25,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
@@ -45,6 +55,12 @@ class TranslationServiceTest {
     @Autowired
     private TranslationRepository translationRepository;
 
+    @Autowired
+    private TranslationFieldSchemaRegistry translationFieldSchemaRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
     @Test
     void Should_CreateTranslation_When_CorrectArguments() {
         // GIVEN
@@ -192,6 +208,43 @@ class TranslationServiceTest {
         );
     }
 
+    @Test
+    void Should_CreateMultilingualTranslations_When_TranslationsConformToSchema() {
+        // GIVEN
+        final var schema = translationFieldSchemaRegistry.register("course", Set.of("title"), Set.of("description"));
+        final var localeFieldTextsMap = Map.of(
+            applicationLocale,
+            Map.of("title", "Bears", "description", "All about bears"),
+            "pl",
+            Map.of("title", "Niedźwiedzie")
+        );
+
+        // WHEN
+        final var result = translationService.createMultilingualTranslations(localeFieldTextsMap, schema);
+
+        // THEN
+        assertEquals(Set.of("title", "description"), result.keySet());
+        assertEquals("Niedźwiedzie", translationService.findTextByIdentifierAndLocale(result.get("title"), "pl"));
+        assertEquals("All about bears", translationService.findTextByIdentifierAndLocale(result.get("description"), "pl"));
+    }
+
+    @ParameterizedTest
+    @MethodSource(
+        "Should_ThrowInvalidRequestDataException_When_AttemptToCreateMultilingualTranslationWithIncorrectArguments_Source"
+    )
+    void Should_ThrowInvalidRequestDataException_When_AttemptToCreateMultilingualTranslationNotConformingToSchema(
+        Map<String, Map<String, String>> localeFieldTextsMap
+    ) {
+        // GIVEN
+        final var schema = translationFieldSchemaRegistry.register("test", Set.of("required"), Set.of("optional"));
+
+        // THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> translationService.createMultilingualTranslations(localeFieldTextsMap, schema)
+        );
+    }
+
     @Test
     void Should_AppendTranslation_When_CorrectArguments() {
         // GIVEN
@@ -437,6 +490,25 @@ class TranslationServiceTest {
         );
     }
 
+    @Test
+    void Should_ThrowQueryTimeoutException_When_TextIsNotLoadedInTime() throws SQLException {
+        // GIVEN
+        final var identifier = 1;
+        final var timeout = Duration.ofMillis(100);
+
+        try (final var connection = dataSource.getConnection(); final var statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("LOCK TABLE translations");
+
+            // THEN
+            assertThrows(
+                QueryTimeoutException.class,
+                () -> translationService.findTextAndLocaleByIdentifierAndLocale(identifier, applicationLocale, timeout)
+            );
+            connection.rollback();
+        }
+    }
+
     @Test
     void Should_ReturnTranslations_When_TranslationsWithAllGivenIdentifiersExist() {
         // GIVEN
@@ -452,6 +524,346 @@ class TranslationServiceTest {
         assertEquals(expectedTranslations, result);
     }
 
+    @Test
+    void Should_ReturnChanges_When_TranslationsChangedSinceVersion() {
+        // GIVEN
+        final var locale = "da";
+        final var updatedIdentifier = createTranslation(applicationLocale, "Remaining translation").getIdentifier();
+        createTranslation(updatedIdentifier, locale, "Resterende oversættelse");
+        final var deletedIdentifier = createTranslation(applicationLocale, "Unwanted translation").getIdentifier();
+        createTranslation(deletedIdentifier, locale, "Uønsket oversættelse");
+
+        final var version = translationService.findChangesSince(0, locale).version();
+
+        final var text = "Opdateret oversættelse";
+        translationService.updateTranslation(updatedIdentifier, locale, text);
+        translationService.deleteTranslationByIdentifierAndLocale(deletedIdentifier, locale);
+
+        // WHEN
+        final var result = translationService.findChangesSince(version, locale);
+
+        // THEN
+        assertTrue(result.version() > version);
+        assertEquals(List.of(new TranslationIdentifierAndTextDto(updatedIdentifier, text)), result.upserts());
+        assertEquals(List.of(deletedIdentifier), result.deletions());
+    }
+
+    @Test
+    void Should_ReturnChangesOfTransactionCommittedLater_When_TransactionsCommitOutOfOrder() throws SQLException {
+        // GIVEN
+        final var locale = "da";
+        final var version = translationService.findChangesSince(0, locale).version();
+
+        try (
+            final var earlierTransaction = dataSource.getConnection();
+            final var laterTransaction = dataSource.getConnection()
+        ) {
+            earlierTransaction.setAutoCommit(false);
+            final var earlierIdentifier = insertTranslation(earlierTransaction, locale, "Langsom oversættelse");
+            laterTransaction.setAutoCommit(false);
+            final var laterIdentifier = insertTranslation(laterTransaction, locale, "Hurtig oversættelse");
+            laterTransaction.commit();
+
+            final var changesBeforeCommit = translationService.findChangesSince(version, locale);
+            earlierTransaction.commit();
+
+            // WHEN
+            final var result = translationService.findChangesSince(changesBeforeCommit.version(), locale);
+
+            // THEN
+            assertEquals(
+                List.of(new TranslationIdentifierAndTextDto(laterIdentifier, "Hurtig oversættelse")),
+                changesBeforeCommit.upserts()
+            );
+            assertTrue(
+                result.upserts().contains(new TranslationIdentifierAndTextDto(earlierIdentifier, "Langsom oversættelse"))
+            );
+        }
+    }
+
+    @Test
+    void Should_AssignSameVersionToAllRows_When_TransactionWritesManyTranslations() {
+        // GIVEN
+        final var identifier = translationService.createMultilingualTranslation(
+            Map.of(applicationLocale, "Lesson", "da", "Lektion", "pl", "Lekcja")
+        );
+        final var createdVersions = translationRepository
+            .findAllByIdentifier(identifier)
+            .stream()
+            .map(Translation::getVersion)
+            .collect(Collectors.toSet());
+
+        // WHEN
+        translationService.updateMultilingualTranslation(
+            identifier,
+            Map.of(applicationLocale, "Lesson", "da", "Lektionen", "pl", "Lekcje")
+        );
+
+        // THEN
+        final var updatedVersions = translationRepository
+            .findAllByIdentifier(identifier)
+            .stream()
+            .filter(translation -> !applicationLocale.equals(translation.getLocale()))
+            .map(Translation::getVersion)
+            .collect(Collectors.toSet());
+        assertEquals(1, createdVersions.size());
+        assertEquals(1, updatedVersions.size());
+        assertTrue(updatedVersions.iterator().next() > createdVersions.iterator().next());
+    }
+
+    @Test
+    void Should_NotReturnDeletions_When_DeletionsDeletedUpToVersion() {
+        // GIVEN
+        final var locale = "da";
+        final var prunedIdentifier = createTranslation(applicationLocale, "Old translation").getIdentifier();
+        createTranslation(prunedIdentifier, locale, "Gammel oversættelse");
+        final var keptIdentifier = createTranslation(applicationLocale, "Recent translation").getIdentifier();
+        createTranslation(keptIdentifier, locale, "Nylig oversættelse");
+        final var version = translationService.findLatestVersion();
+        translationService.deleteTranslationByIdentifierAndLocale(prunedIdentifier, locale);
+        final var prunedVersion = translationService.findLatestVersion();
+        translationService.deleteTranslationByIdentifierAndLocale(keptIdentifier, locale);
+
+        // WHEN
+        final var result = translationService.deleteAllDeletionsUpTo(prunedVersion);
+
+        // THEN
+        assertEquals(1, result);
+        assertEquals(List.of(keptIdentifier), translationService.findChangesSince(version, locale).deletions());
+    }
+
+    @Test
+    void Should_ReturnTextsInRequestedLocales_When_FindingLocaleMatrix() {
+        // GIVEN
+        final var locale = "da";
+        final var monolingualIdentifier = createTranslation(applicationLocale, "Lesson").getIdentifier();
+        final var multilingualIdentifier = createTranslation(applicationLocale, "Quiz").getIdentifier();
+        createTranslation(multilingualIdentifier, locale, "Prøve");
+        final var identifiers = List.of(multilingualIdentifier, monolingualIdentifier, NONEXISTENT_TRANSLATION_IDENTIFIER);
+
+        // WHEN
+        final var allLocales = translationService.findLocaleMatrix(identifiers, null);
+        final var requestedLocales = translationService.findLocaleMatrix(identifiers, Set.of(locale, "pl"));
+
+        // THEN
+        assertEquals(3, allLocales.identifierCount());
+        assertEquals(Map.of(applicationLocale, "Lesson"), allLocales.toMap().get(monolingualIdentifier));
+        assertEquals(Map.of(applicationLocale, "Quiz", locale, "Prøve"), allLocales.toMap().get(multilingualIdentifier));
+        assertEquals(Map.of(), allLocales.toMap().get(NONEXISTENT_TRANSLATION_IDENTIFIER));
+        assertEquals(2, requestedLocales.localeCount());
+        assertEquals("Prøve", requestedLocales.text(multilingualIdentifier, locale));
+        assertNull(requestedLocales.text(monolingualIdentifier, locale));
+        assertNull(requestedLocales.text(monolingualIdentifier, applicationLocale));
+    }
+
+    @Test
+    void Should_UpdateAndCreateTexts_When_UpsertingTranslations() {
+        // GIVEN
+        final var locale = "da";
+        final var identifier = createTranslation(applicationLocale, "Draft").getIdentifier();
+
+        // WHEN
+        translationService.upsertTranslations(
+            Map.of(
+                new TranslationIdentifierAndLocaleDto(identifier, applicationLocale),
+                "Final",
+                new TranslationIdentifierAndLocaleDto(identifier, locale),
+                "Endelig"
+            )
+        );
+
+        // THEN
+        assertEquals("Final", translationService.findTextByIdentifierAndLocale(identifier, applicationLocale));
+        assertEquals("Endelig", translationService.findTextByIdentifierAndLocale(identifier, locale));
+    }
+
+    @Test
+    void Should_ThrowResourceNotFoundException_When_AttemptToUpsertNonexistentTranslation() {
+        // GIVEN
+        final var localeTexts = Map.of(
+            new TranslationIdentifierAndLocaleDto(NONEXISTENT_TRANSLATION_IDENTIFIER, "da"),
+            "Tekst"
+        );
+
+        // THEN
+        assertThrows(ResourceNotFoundException.class, () -> translationService.upsertTranslations(localeTexts));
+    }
+
+    @Test
+    void Should_ApplyOnlyDifferences_When_SyncingTranslations() {
+        // GIVEN
+        final var locale = "da";
+        final var unchangedIdentifier = createTranslation(applicationLocale, "Save").getIdentifier();
+        createTranslation(unchangedIdentifier, locale, "Gem");
+        final var changedIdentifier = createTranslation(applicationLocale, "Cancel").getIdentifier();
+        createTranslation(changedIdentifier, locale, "Anuler");
+        final var newIdentifier = -NONEXISTENT_TRANSLATION_IDENTIFIER;
+        final var catalog = Map.of(
+            unchangedIdentifier,
+            Map.of(applicationLocale, "Save", locale, "Gem"),
+            changedIdentifier,
+            Map.of(applicationLocale, "Cancel ❌"),
+            newIdentifier,
+            Map.of(applicationLocale, "Close", locale, "Luk")
+        );
+
+        // WHEN
+        final var result = translationService.syncTranslations(catalog);
+        final var repeatedResult = translationService.syncTranslations(catalog);
+
+        // THEN
+        assertEquals(new TranslationSyncSummaryDto(3, 2, 2, 1, 1), result);
+        assertEquals(new TranslationSyncSummaryDto(3, 0, 0, 0, 0), repeatedResult);
+        assertEquals("Cancel ❌", translationService.findTextByIdentifierAndLocale(changedIdentifier, applicationLocale));
+        assertEquals(1, translationRepository.findAllByIdentifier(changedIdentifier).size());
+        assertEquals("Luk", translationService.findTextByIdentifierAndLocale(newIdentifier, locale));
+    }
+
+    @Test
+    void Should_CopyTranslationsInAllLocales_When_CloningTranslations() {
+        // GIVEN
+        final var locale = "da";
+        final var monolingualIdentifier = createTranslation(applicationLocale, "Course title").getIdentifier();
+        final var multilingualIdentifier = createTranslation(applicationLocale, "Course description").getIdentifier();
+        createTranslation(multilingualIdentifier, locale, "Kursusbeskrivelse");
+
+        // WHEN
+        final var result = translationService.cloneTranslations(List.of(monolingualIdentifier, multilingualIdentifier));
+
+        // THEN
+        assertEquals(Set.of(monolingualIdentifier, multilingualIdentifier), result.keySet());
+        final var monolingualCloneIdentifier = result.get(monolingualIdentifier);
+        final var multilingualCloneIdentifier = result.get(multilingualIdentifier);
+        assertNotEquals(monolingualIdentifier, monolingualCloneIdentifier);
+        assertEquals(1, translationRepository.findAllByIdentifier(monolingualCloneIdentifier).size());
+        assertEquals("Course title", translationService.findTextByIdentifierAndLocale(monolingualCloneIdentifier, locale));
+        assertEquals(
+            "Kursusbeskrivelse",
+            translationService.findTextByIdentifierAndLocale(multilingualCloneIdentifier, locale)
+        );
+        assertEquals(2, translationRepository.findAllByIdentifier(multilingualIdentifier).size());
+    }
+
+    @Test
+    void Should_ThrowResourceNotFoundException_When_AttemptToCloneNonexistentTranslation() {
+        // GIVEN
+        final var identifiers = List.of(1, NONEXISTENT_TRANSLATION_IDENTIFIER);
+
+        // THEN
+        assertThrows(ResourceNotFoundException.class, () -> translationService.cloneTranslations(identifiers));
+    }
+
+    @Test
+    void Should_ReturnMatchingTranslationsPageByPage_When_SearchingForPhrase() {
+        // GIVEN
+        final var locale = "da";
+        final var firstIdentifier = createTranslation(applicationLocale, "Photosynthesis basics").getIdentifier();
+        createTranslation(firstIdentifier, locale, "Fotosyntese for begyndere");
+        final var secondIdentifier = createTranslation(applicationLocale, "Advanced PHOTOSYNTHESIS").getIdentifier();
+        final var thirdIdentifier = createTranslation(applicationLocale, "About photosynthesis 100%").getIdentifier();
+        createTranslation(applicationLocale, "Respiration");
+
+        // WHEN
+        final var firstPage = translationService.searchTranslations("photosynthesis", null, null, 2);
+        final var secondPage = translationService.searchTranslations("photosynthesis", null, firstPage.next(), 2);
+        final var localePage = translationService.searchTranslations("fotosyntese", locale, null, 2);
+        final var escapedPage = translationService.searchTranslations("s 100%", applicationLocale, null, 2);
+
+        // THEN
+        assertEquals(
+            List.of(
+                new TranslationIdentifierTextAndLocaleDto(firstIdentifier, "Photosynthesis basics", applicationLocale),
+                new TranslationIdentifierTextAndLocaleDto(secondIdentifier, "Advanced PHOTOSYNTHESIS", applicationLocale)
+            ),
+            firstPage.translations()
+        );
+        assertEquals(
+            List.of(new TranslationIdentifierTextAndLocaleDto(thirdIdentifier, "About photosynthesis 100%", applicationLocale)),
+            secondPage.translations()
+        );
+        assertNull(secondPage.next());
+        assertEquals(
+            List.of(new TranslationIdentifierTextAndLocaleDto(firstIdentifier, "Fotosyntese for begyndere", locale)),
+            localePage.translations()
+        );
+        assertEquals(1, escapedPage.translations().size());
+    }
+
+    @Test
+    void Should_ReturnMissingIdentifiersPageByPage_When_FindingIdentifiersMissingInLocale() {
+        // GIVEN
+        final var locale = "da";
+        final var firstIdentifier = createTranslation(applicationLocale, "Lesson").getIdentifier();
+        final var translatedIdentifier = createTranslation(applicationLocale, "Quiz").getIdentifier();
+        createTranslation(translatedIdentifier, locale, "Quiz");
+        final var secondIdentifier = createTranslation(applicationLocale, "Assignment").getIdentifier();
+        final var thirdIdentifier = createTranslation(applicationLocale, "Exam").getIdentifier();
+        final var afterIdentifier = firstIdentifier - 1;
+
+        // WHEN
+        final var firstPage = translationService.findIdentifiersMissingInLocale(locale, afterIdentifier, 2);
+        final var secondPage = translationService.findIdentifiersMissingInLocale(locale, firstPage.get(1), 2);
+
+        // THEN
+        assertEquals(List.of(firstIdentifier, secondIdentifier), firstPage);
+        assertEquals(List.of(thirdIdentifier), secondPage);
+    }
+
+    @Test
+    void Should_ReturnIdentifiersOrderedByTextWithFallback_When_FindingIdentifiersOrderedByText() {
+        // GIVEN
+        final var locale = "da";
+        final var zebraIdentifier = createTranslation(applicationLocale, "Zebra").getIdentifier();
+        createTranslation(zebraIdentifier, locale, "Zebra");
+        final var appleIdentifier = createTranslation(applicationLocale, "Apple").getIdentifier();
+        createTranslation(appleIdentifier, locale, "Æble");
+        final var bananaIdentifier = createTranslation(applicationLocale, "Banana").getIdentifier();
+        final var identifiers = List.of(zebraIdentifier, appleIdentifier, bananaIdentifier);
+
+        // WHEN
+        final var firstPage = translationService.findIdentifiersOrderedByText(identifiers, locale, 0, 2);
+        final var secondPage = translationService.findIdentifiersOrderedByText(identifiers, locale, 2, 2);
+
+        // THEN
+        // Danish collation sorts "Æ" after "Z"
+        assertEquals(List.of(bananaIdentifier, zebraIdentifier), firstPage);
+        assertEquals(List.of(appleIdentifier), secondPage);
+    }
+
+    @Test
+    void Should_ThrowInvalidRequestDataException_When_AttemptToOrderByTextInInvalidLocale() {
+        // GIVEN
+        final var identifiers = List.of(1);
+
+        // THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> translationService.findIdentifiersOrderedByText(identifiers, "da\"", 0, 10)
+        );
+    }
+
+    @Test
+    void Should_CountTranslationsInEveryLocale_When_CountingTranslationsByLocale() {
+        // GIVEN
+        final var locale = "da";
+        final var counts = translationService.countTranslationsByLocale();
+        final var identifier = createTranslation(applicationLocale, "Lesson").getIdentifier();
+        createTranslation(identifier, locale, "Lektion");
+
+        // WHEN
+        final var result = translationService.countTranslationsByLocale();
+
+        // THEN
+        assertEquals(counts.getOrDefault(applicationLocale, 0L) + 1, result.get(applicationLocale));
+        assertEquals(counts.getOrDefault(locale, 0L) + 1, result.get(locale));
+    }
+
+    @Test
+    void Should_ThrowInvalidRequestDataException_When_SearchPhraseIsTooShort() {
+        // THEN
+        assertThrows(InvalidRequestDataException.class, () -> translationService.searchTranslations(" ab ", null, null, 10));
+    }
+
     @Test
     void Should_DeleteTranslations_When_AtLeastOneTranslationWithGivenIdentifierExists() {
         // GIVEN
@@ -470,6 +882,31 @@ class TranslationServiceTest {
         assertTrue(deletedTranslations.isEmpty());
     }
 
+    @Test
+    void Should_DeleteOnlyUnchangedTranslations_When_DeletingTranslationsUnchangedSinceVersion() {
+        // GIVEN
+        final var unchangedIdentifier = createTranslation(applicationLocale, "Orphaned translation").getIdentifier();
+        createTranslation(unchangedIdentifier, "da", "Forældreløs oversættelse");
+        final var changedIdentifier = createTranslation(applicationLocale, "Changed translation").getIdentifier();
+        final var version = translationService.findLatestVersion();
+        createTranslation(changedIdentifier, "da", "Ændret oversættelse");
+
+        // WHEN
+        final var result = translationService.deleteAllTranslationsUnchangedSince(
+            List.of(unchangedIdentifier, changedIdentifier),
+            version
+        );
+
+        // THEN
+        assertEquals(2, result);
+        assertTrue(translationRepository.findAllByIdentifier(unchangedIdentifier).isEmpty());
+        assertEquals(2, translationRepository.findAllByIdentifier(changedIdentifier).size());
+        assertEquals(
+            Set.of(unchangedIdentifier, changedIdentifier),
+            translationService.findChangedIdentifiersSince(version)
+        );
+    }
+
     @Test
     void Should_DeleteTranslation_When_TranslationWithGivenIdentifierAndLocaleExists() {
         // GIVEN
@@ -502,11 +939,27 @@ class TranslationServiceTest {
         );
     }
 
+    private int insertTranslation(Connection connection, String locale, String text) throws SQLException {
+        try (
+            final var statement = connection.prepareStatement(
+                "INSERT INTO translations (identifier, locale, text) VALUES (nextval('translations_identifier_seq'), ?, ?) " +
+                "RETURNING identifier"
+            )
+        ) {
+            statement.setString(1, locale);
+            statement.setString(2, text);
+            try (final var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     private Translation createTranslation(String locale, String text) {
         return createTranslation(null, locale, text);
     }
 
     private Translation createTranslation(Integer identifier, String locale, String text) {
-        return translationRepository.save(new Translation(null, identifier, locale, text));
+        return translationRepository.save(new Translation(null, identifier, locale, text, null));
     }
 }
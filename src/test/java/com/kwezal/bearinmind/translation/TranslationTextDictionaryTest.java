@@ -0,0 +1,135 @@
+package com.kwezal.bearinmind.translation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndTextDto;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+@SpringBootTest(properties = "spring.liquibase.parameters.translation.text.dictionary=true")
+@Sql(
+    scripts = "/com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class TranslationTextDictionaryTest {
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void Should_StoreTextOnce_When_TranslationsHaveEqualTexts() {
+        // GIVEN
+        final var text = "Introduction";
+
+        // WHEN
+        final var firstIdentifier = translationService.createTranslation(new TranslationTextDto(text));
+        final var secondIdentifier = translationService.createMultilingualTranslation(Map.of("en", text, "da", text));
+
+        // THEN
+        assertEquals(1, countTexts(text));
+        assertEquals(3, countTranslations(text));
+        assertEquals(text, translationService.findTextByIdentifierAndLocale(firstIdentifier, "en"));
+        assertEquals(text, translationService.findTextByIdentifierAndLocale(secondIdentifier, "da"));
+    }
+
+    @Test
+    void Should_DeleteText_When_NoTranslationHasItAnymore() {
+        // GIVEN
+        final var firstIdentifier = translationService.createTranslation(new TranslationTextDto("Summary"));
+        final var secondIdentifier = translationService.createTranslation(new TranslationTextDto("Summary"));
+
+        // WHEN
+        translationService.updateTranslation(firstIdentifier, "en", "Quiz");
+
+        // THEN
+        assertEquals(1, countTexts("Summary"));
+        assertEquals("Quiz", translationService.findTextByIdentifierAndLocale(firstIdentifier, "en"));
+
+        // WHEN
+        translationService.deleteAllTranslationBy(secondIdentifier);
+
+        // THEN
+        assertEquals(0, countTexts("Summary"));
+        assertEquals(1, countTexts("Quiz"));
+    }
+
+    @Test
+    void Should_ReadTranslations_When_TextsAreStoredInDictionary() {
+        // GIVEN
+        final var version = translationService.findLatestVersion();
+        final var identifier = translationService.createMultilingualTranslation(
+            Map.of("en", "Final quiz", "da", "Afsluttende quiz")
+        );
+
+        // WHEN
+        final var copyIdentifier = translationService.cloneTranslations(List.of(identifier)).get(identifier);
+        final var changes = translationService.findChangesSince(version, "da");
+        final var searchPage = translationService.searchTranslations("QUIZ", null, null, 10);
+
+        // THEN
+        assertEquals(
+            List.of(
+                new TranslationIdentifierAndTextDto(identifier, "Afsluttende quiz"),
+                new TranslationIdentifierAndTextDto(copyIdentifier, "Afsluttende quiz")
+            ),
+            changes.upserts()
+        );
+        assertEquals(
+            List.of(
+                new TranslationIdentifierTextAndLocaleDto(identifier, "Afsluttende quiz", "da"),
+                new TranslationIdentifierTextAndLocaleDto(identifier, "Final quiz", "en"),
+                new TranslationIdentifierTextAndLocaleDto(copyIdentifier, "Afsluttende quiz", "da"),
+                new TranslationIdentifierTextAndLocaleDto(copyIdentifier, "Final quiz", "en")
+            ),
+            searchPage.translations()
+        );
+        assertEquals(1, countTexts("Final quiz"));
+    }
+
+    @Test
+    void Should_DeleteTranslationsUnchangedSinceVersion_When_TextsAreStoredInDictionary() {
+        // GIVEN
+        final var identifier = translationService.createTranslation(new TranslationTextDto("Conclusion"));
+        translationService.createTranslation(new TranslationTextDto("Conclusion"));
+        final var version = translationService.findLatestVersion();
+
+        // WHEN
+        final var result = translationService.deleteAllTranslationsUnchangedSince(Set.of(identifier), version);
+
+        // THEN
+        assertEquals(1, result);
+        assertEquals(1, countTranslations("Conclusion"));
+        assertEquals(1, countTexts("Conclusion"));
+    }
+
+    private int countTexts(final String text) {
+        return new JdbcTemplate(dataSource).queryForObject(
+            "SELECT count(*) FROM translation_texts WHERE text = ?",
+            Integer.class,
+            text
+        );
+    }
+
+    private int countTranslations(final String text) {
+        return new JdbcTemplate(dataSource).queryForObject(
+            "SELECT count(*) FROM translations WHERE text = ?",
+            Integer.class,
+            text
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package com.kwezal.bearinmind.translation.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TranslationAutocompleteServiceTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final TranslationAutocompleteService translationAutocompleteService = new TranslationAutocompleteService(
+        translationService,
+        Set.of("en", "da"),
+        20
+    );
+
+    @BeforeEach
+    void start() {
+        when(translationService.findAllIdentifierAndTextByLocale("en"))
+            .thenReturn(Map.of(1, "Photosynthesis", 2, "Photography", 3, "Physics", 4, "A description far too long to index"));
+        when(translationService.findAllIdentifierAndTextByLocale("da")).thenReturn(Map.of(1, "Fotosyntese", 2, "Fotografi"));
+        translationAutocompleteService.start();
+    }
+
+    @AfterEach
+    void stop() {
+        translationAutocompleteService.stop();
+    }
+
+    @Test
+    void Should_ReturnIdentifiersOrderedByText_When_TextsStartWithPrefix() {
+        // WHEN
+        final var result = translationAutocompleteService.findIdentifiersByPrefix("PHOTO", "en", 10);
+
+        // THEN
+        assertEquals(List.of(2, 1), result);
+        assertEquals(List.of(2), translationAutocompleteService.findIdentifiersByPrefix("foto", "da", 1));
+        assertEquals(List.of(), translationAutocompleteService.findIdentifiersByPrefix("a description", "en", 10));
+    }
+
+    @Test
+    void Should_ReindexChangedTranslations_When_TranslationsChange() throws InterruptedException {
+        // GIVEN
+        when(translationService.findAllIdentifierAndTextByIdentifiersAndLocale(Set.of(1, 3), "en"))
+            .thenReturn(Map.of(3, "Écologie"));
+        when(translationService.findAllIdentifierAndTextByIdentifiersAndLocale(Set.of(1, 3), "da")).thenReturn(Map.of());
+
+        // WHEN
+        translationAutocompleteService.onTranslationsChanged(Set.of(1, 3));
+
+        // THEN
+        assertEventually(() -> {
+            assertEquals(List.of(2), translationAutocompleteService.findIdentifiersByPrefix("photo", "en", 10));
+            assertEquals(List.of(3), translationAutocompleteService.findIdentifiersByPrefix("eco", "en", 10));
+            assertEquals(List.of(2), translationAutocompleteService.findIdentifiersByPrefix("foto", "da", 10));
+        });
+        assertThrows(IllegalArgumentException.class, () -> translationAutocompleteService.findIdentifiersByPrefix("eco", "pl", 10));
+    }
+
+    @Test
+    void Should_ApplyLatestText_When_TranslationChangesWhileIndexIsUpdated() throws InterruptedException {
+        // GIVEN
+        final var updateStarted = new CountDownLatch(1);
+        final var updateReleased = new CountDownLatch(1);
+        when(translationService.findAllIdentifierAndTextByIdentifiersAndLocale(Set.of(3), "en"))
+            .thenAnswer(invocation -> {
+                updateStarted.countDown();
+                updateReleased.await();
+                return Map.of(3, "Ecology");
+            })
+            .thenReturn(Map.of(3, "Economy"));
+        when(translationService.findAllIdentifierAndTextByIdentifiersAndLocale(Set.of(3), "da")).thenReturn(Map.of());
+
+        translationAutocompleteService.onTranslationsChanged(Set.of(3));
+        updateStarted.await();
+
+        // WHEN
+        translationAutocompleteService.onTranslationsChanged(Set.of(3));
+        updateReleased.countDown();
+
+        // THEN
+        assertEventually(() ->
+            assertEquals(List.of(3), translationAutocompleteService.findIdentifiersByPrefix("econ", "en", 10))
+        );
+        assertEquals(List.of(), translationAutocompleteService.findIdentifiersByPrefix("ecol", "en", 10));
+    }
+
+    private static void assertEventually(final Runnable assertion) throws InterruptedException {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class OffHeapTranslationCacheTest {
+
+    @Test
+    void Should_ReturnCachedText_When_TextWasPut() {
+        // GIVEN
+        final var cache = new OffHeapTranslationCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(1));
+        final var text = "Zażółć gęślą jaźń";
+
+        // WHEN
+        cache.put(1, "pl", new TranslationTextAndLocaleDto(text, "pl"), cache.generation());
+
+        // THEN
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto(text, "pl")), cache.get(1, "pl"));
+        assertEquals(Optional.empty(), cache.get(1, "en"));
+        assertEquals(Optional.empty(), cache.get(2, "pl"));
+    }
+
+    @Test
+    void Should_ReturnLatestText_When_TextWasReplaced() {
+        // GIVEN
+        final var cache = new OffHeapTranslationCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(1));
+        cache.put(1, "en", new TranslationTextAndLocaleDto("The cake is a lie", "en"), cache.generation());
+
+        // WHEN
+        cache.put(1, "en", new TranslationTextAndLocaleDto("The cake is not a lie", "en"), cache.generation());
+
+        // THEN
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto("The cake is not a lie", "en")), cache.get(1, "en"));
+        assertEquals(1, cache.statistics().entries());
+    }
+
+    @Test
+    void Should_EvictTextInAllLocales_When_TranslationChanged() {
+        // GIVEN
+        final var cache = new OffHeapTranslationCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(1));
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Multilingual text", "en"), cache.generation());
+        cache.put(1, "da", new TranslationTextAndLocaleDto("Flersproget tekst", "da"), cache.generation());
+        cache.put(2, "da", new TranslationTextAndLocaleDto("Monolingual text", "en"), cache.generation());
+
+        // WHEN
+        cache.evict(List.of(1));
+
+        // THEN
+        assertEquals(Optional.empty(), cache.get(1, "en"));
+        assertEquals(Optional.empty(), cache.get(1, "da"));
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto("Monolingual text", "en")), cache.get(2, "da"));
+        assertEquals(1, cache.statistics().entries());
+    }
+
+    @Test
+    void Should_NotCacheText_When_EntryWasEvictedAfterTextWasLoaded() {
+        // GIVEN
+        final var cache = new OffHeapTranslationCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(1));
+        final var generation = cache.generation();
+        cache.evict(List.of(1));
+
+        // WHEN
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Outdated text", "en"), generation);
+
+        // THEN
+        assertEquals(Optional.empty(), cache.get(1, "en"));
+    }
+
+    @Test
+    void Should_EvictOldestTexts_When_MemoryLimitIsReached() {
+        // GIVEN
+        final var cache = new OffHeapTranslationCache(DataSize.ofBytes(256), DataSize.ofBytes(128));
+        final var text = "x".repeat(48);
+
+        // WHEN
+        for (var identifier = 1; identifier <= 5; ++identifier) {
+            cache.put(identifier, "en", new TranslationTextAndLocaleDto(text, "en"), cache.generation());
+        }
+
+        // THEN
+        assertEquals(Optional.empty(), cache.get(1, "en"));
+        assertEquals(Optional.empty(), cache.get(2, "en"));
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto(text, "en")), cache.get(5, "en"));
+
+        final var statistics = cache.statistics();
+        assertEquals(3, statistics.entries());
+        assertEquals(2, statistics.evictions());
+        assertEquals(256, statistics.allocatedBytes());
+    }
+}
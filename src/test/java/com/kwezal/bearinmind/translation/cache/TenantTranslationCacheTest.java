@@ -0,0 +1,91 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TenantTranslationCacheTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+
+    private String tenant;
+    private final TranslationTenancy tenancy = new TranslationTenancy(
+        mock(DataSource.class),
+        () -> tenant,
+        "translations_",
+        "public"
+    );
+    private final TenantTranslationCache cache = new TenantTranslationCache(
+        translationService,
+        tenancy,
+        DataSize.ofKilobytes(4),
+        DataSize.ofKilobytes(1),
+        Duration.ofHours(1)
+    );
+
+    @Test
+    void Should_ReturnTextOfCurrentTenant_When_TenantsHaveTranslationsWithEqualIdentifiers() {
+        // GIVEN
+        tenant = "university";
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Lecture", "en"), cache.generation());
+        tenant = "school";
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Lesson", "en"), cache.generation());
+
+        // WHEN
+        tenant = "university";
+        final var universityText = cache.get(1, "en");
+        tenant = null;
+        final var defaultText = cache.get(1, "en");
+
+        // THEN
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto("Lecture", "en")), universityText);
+        assertEquals(Optional.empty(), defaultText);
+    }
+
+    @Test
+    void Should_EvictTextOnlyOfCurrentTenant_When_TranslationChanged() {
+        // GIVEN
+        tenant = "university";
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Lecture", "en"), cache.generation());
+        tenant = "school";
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Lesson", "en"), cache.generation());
+
+        // WHEN
+        cache.onTranslationsChanged(Set.of(1));
+
+        // THEN
+        assertEquals(Optional.empty(), cache.get(1, "en"));
+        tenant = "university";
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto("Lecture", "en")), cache.get(1, "en"));
+    }
+
+    @Test
+    void Should_EvictTextsChangedInTenantSchema_When_Synchronizing() {
+        // GIVEN
+        tenant = "university";
+        when(translationService.findLatestVersion()).thenReturn(10L);
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Lecture", "en"), cache.generation());
+        cache.put(2, "en", new TranslationTextAndLocaleDto("Course", "en"), cache.generation());
+        tenant = null;
+        when(translationService.findLatestVersion()).thenReturn(12L);
+        when(translationService.findChangedIdentifiersSince(10L))
+            .thenAnswer(invocation -> "translations_university".equals(tenancy.currentSchema()) ? Set.of(1) : Set.of());
+
+        // WHEN
+        cache.synchronize();
+
+        // THEN
+        tenant = "university";
+        assertEquals(Optional.empty(), cache.get(1, "en"));
+        assertEquals(Optional.of(new TranslationTextAndLocaleDto("Course", "en")), cache.get(2, "en"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class TranslationCacheSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void Should_ReadWrittenEntries_When_SnapshotIsValid() throws Exception {
+        // GIVEN
+        final var path = directory.resolve("translations.snapshot");
+        final var cache = createCache();
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Monolingual text", "en"), cache.generation());
+        cache.put(2, "da", new TranslationTextAndLocaleDto("Flersproget tekst", "da"), cache.generation());
+        cache.put(3, "da", new TranslationTextAndLocaleDto("Monolingual text", "en"), cache.generation());
+
+        TranslationCacheSnapshot.write(path, "en", 27, cache);
+
+        final var entries = new HashMap<String, TranslationTextAndLocaleDto>();
+
+        // WHEN
+        final var result = TranslationCacheSnapshot.read(
+            path,
+            "en",
+            (identifier, locale, text) -> entries.put(identifier + locale, text)
+        );
+
+        // THEN
+        assertEquals(27, result);
+        assertEquals(
+            Map.of(
+                "1en",
+                new TranslationTextAndLocaleDto("Monolingual text", "en"),
+                "2da",
+                new TranslationTextAndLocaleDto("Flersproget tekst", "da"),
+                "3da",
+                new TranslationTextAndLocaleDto("Monolingual text", "en")
+            ),
+            entries
+        );
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_SnapshotIsCorrupt() throws Exception {
+        // GIVEN
+        final var path = directory.resolve("translations.snapshot");
+        final var cache = createCache();
+        cache.put(1, "en", new TranslationTextAndLocaleDto("Monolingual text", "en"), cache.generation());
+        TranslationCacheSnapshot.write(path, "en", 27, cache);
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 12] ^= 1;
+        Files.write(path, bytes);
+
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> TranslationCacheSnapshot.read(path, "en", (i, l, t) -> {}));
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_SnapshotWasResolvedWithAnotherApplicationLocale() throws Exception {
+        // GIVEN
+        final var path = directory.resolve("translations.snapshot");
+        TranslationCacheSnapshot.write(path, "en", 27, createCache());
+
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> TranslationCacheSnapshot.read(path, "da", (i, l, t) -> {}));
+    }
+
+    private OffHeapTranslationCache createCache() {
+        return new OffHeapTranslationCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(1));
+    }
+}
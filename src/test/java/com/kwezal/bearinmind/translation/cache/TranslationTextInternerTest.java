@@ -0,0 +1,37 @@
+package com.kwezal.bearinmind.translation.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TranslationTextInternerTest {
+
+    @Test
+    void Should_ReturnSharedInstance_When_EqualShortTextIsInterned() {
+        // GIVEN
+        final var interner = new TranslationTextInterner(16, 2);
+        final var text = new String("Introduction");
+
+        // WHEN
+        final var result = interner.intern(new String("Introduction"));
+
+        // THEN
+        assertSame(result, interner.intern(text));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void Should_ReturnGivenText_When_TextIsTooLongOrInternerIsFull() {
+        // GIVEN
+        final var interner = new TranslationTextInterner(16, 2);
+        interner.intern("Summary");
+        interner.intern("Quiz");
+        final var text = new String("Introduction");
+        final var longText = new String("A text longer than the limit");
+
+        // THEN
+        assertSame(text, interner.intern(text));
+        assertSame(longText, interner.intern(longText));
+        assertEquals(2, interner.size());
+    }
+}
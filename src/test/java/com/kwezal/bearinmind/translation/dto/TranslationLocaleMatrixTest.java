@@ -0,0 +1,39 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TranslationLocaleMatrixTest {
+
+    @Test
+    void Should_FindTextsByIdentifierAndLocale_When_MatrixIsCreated() {
+        // GIVEN
+        final var identifiers = new int[] { 3, 7 };
+        final var locales = new String[] { "da", "en" };
+        final var texts = new String[] { null, "Lesson", "Prøve", "Quiz" };
+
+        // WHEN
+        final var matrix = new TranslationLocaleMatrix(identifiers, locales, texts);
+
+        // THEN
+        assertEquals("Prøve", matrix.text(7, "da"));
+        assertNull(matrix.text(3, "da"));
+        assertNull(matrix.text(5, "en"));
+        assertNull(matrix.text(3, "pl"));
+        assertTrue(matrix.identifierIndex(5) < 0);
+        assertEquals(Map.of(3, Map.of("en", "Lesson"), 7, Map.of("da", "Prøve", "en", "Quiz")), matrix.toMap());
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_NumberOfTextsDoesNotMatch() {
+        // GIVEN
+        final var identifiers = new int[] { 1 };
+        final var locales = new String[] { "en", "da" };
+        final var texts = new String[] { "Lesson" };
+
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> new TranslationLocaleMatrix(identifiers, locales, texts));
+    }
+}
@@ -0,0 +1,49 @@
+package com.kwezal.bearinmind.translation.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TranslationMatrixTest {
+
+    @Test
+    void Should_ViewTextsByLocaleAndByField_When_MatrixIsCreatedFromMap() {
+        // GIVEN
+        final var localeFieldTextsMap = new LinkedHashMap<String, Map<String, String>>();
+        localeFieldTextsMap.put("en", Map.of("title", "Title", "description", "Description"));
+        localeFieldTextsMap.put("pl", Map.of("title", "Tytuł"));
+        localeFieldTextsMap.put("de", Map.of());
+
+        // WHEN
+        final var matrix = TranslationMatrix.of(localeFieldTextsMap);
+
+        // THEN
+        assertEquals(2, matrix.fieldCount());
+        assertEquals(3, matrix.localeCount());
+        final var plIndex = matrix.localeIndex("pl");
+        final var descriptionIndex = matrix.fieldIndex("description");
+        assertEquals(Map.of("title", "Tytuł"), matrix.fieldTexts(plIndex));
+        assertEquals(Map.of("en", "Description"), matrix.localeTexts(descriptionIndex));
+        assertNull(matrix.text(descriptionIndex, plIndex));
+        assertTrue(matrix.fieldTexts(matrix.localeIndex("de")).isEmpty());
+        assertEquals(-1, matrix.localeIndex("fr"));
+        assertEquals(localeFieldTextsMap, matrix.toMap());
+    }
+
+    @Test
+    void Should_CreateSameMatrix_When_TextsAreAddedWithBuilder() {
+        // GIVEN
+        final var localeFieldTextsMap = new LinkedHashMap<String, Map<String, String>>();
+        localeFieldTextsMap.put("en", Map.of("title", "Title"));
+        localeFieldTextsMap.put("pl", Map.of());
+
+        // WHEN
+        final var matrix = TranslationMatrix.builder().text("title", "en", "Title").text("title", "pl", null).build();
+
+        // THEN
+        assertEquals(localeFieldTextsMap, matrix.toMap());
+        assertTrue(TranslationMatrix.of(null).isEmpty());
+    }
+}
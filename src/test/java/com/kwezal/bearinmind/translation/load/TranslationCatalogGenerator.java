@@ -0,0 +1,119 @@
+package com.kwezal.bearinmind.translation.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the database with a synthetic catalog of translations.
+ * <ul>
+ *     <li>Every translation has a text in the application locale.</li>
+ *     <li>Every other locale has a text with a given probability, so that lookups also exercise the fallback.</li>
+ *     <li>Texts are mostly short labels, with some sentences and a few paragraphs.</li>
+ * </ul>
+ */
+class TranslationCatalogGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    TranslationCatalogGenerator(final DataSource dataSource, final long seed) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a catalog.
+     *
+     * @param applicationLocale application locale
+     * @param identifierCount   number of translations
+     * @param localeCount       number of locales, including the application locale
+     * @param density           probability of a translation having a text in a non-default locale
+     * @return generated catalog
+     */
+    TranslationCatalog generate(
+        final String applicationLocale,
+        final int identifierCount,
+        final int localeCount,
+        final double density
+    ) {
+        final var locales = locales(applicationLocale, localeCount);
+        final var identifiers = jdbcTemplate.queryForList(
+            "SELECT nextval('translations_identifier_seq')::int FROM generate_series(1, ?)",
+            Integer.class,
+            identifierCount
+        );
+
+        final var batch = new ArrayList<Object[]>(BATCH_SIZE);
+        for (final var identifier : identifiers) {
+            for (final var locale : locales) {
+                if (locale.equals(applicationLocale) || random.nextDouble() < density) {
+                    batch.add(new Object[] { identifier, locale, text() });
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    insert(batch);
+                }
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE translations");
+
+        return new TranslationCatalog(identifiers, locales);
+    }
+
+    /**
+     * Generates a text of a realistic length.
+     *
+     * @return random text
+     */
+    String text() {
+        final var kind = random.nextDouble();
+        final int length;
+        if (kind < 0.7) {
+            length = 5 + random.nextInt(35);
+        } else if (kind < 0.95) {
+            length = 40 + random.nextInt(160);
+        } else {
+            length = 200 + random.nextInt(1800);
+        }
+
+        final var text = new StringBuilder(length);
+        while (text.length() < length) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            final var wordLength = 1 + random.nextInt(10);
+            for (int i = 0; i < wordLength; i++) {
+                text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    private void insert(final List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO translations (identifier, locale, text) VALUES (?, ?, ?)", batch);
+            batch.clear();
+        }
+    }
+
+    private static List<String> locales(final String applicationLocale, final int count) {
+        final var locales = new ArrayList<String>(count);
+        locales.add(applicationLocale);
+        for (int i = 0; locales.size() < count; i++) {
+            final var locale = "" + ALPHABET.charAt(i / 26 % 26) + ALPHABET.charAt(i % 26);
+            if (!applicationLocale.equals(locale)) {
+                locales.add(locale);
+            }
+        }
+        return locales;
+    }
+
+    record TranslationCatalog(List<Integer> identifiers, List<String> locales) {}
+}
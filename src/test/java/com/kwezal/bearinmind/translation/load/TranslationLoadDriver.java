@@ -0,0 +1,293 @@
+package com.kwezal.bearinmind.translation.load;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextDto;
+import com.kwezal.bearinmind.translation.load.TranslationCatalogGenerator.TranslationCatalog;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a mixed read and write workload against {@link TranslationService} from a number of concurrent threads,
+ * measuring latency of every call and sampling connection pool usage.
+ */
+class TranslationLoadDriver {
+
+    static final String FIND_TEXT = "findTextByIdentifierAndLocale";
+    static final String FIND_TEXTS = "findAllIdentifierAndTextByIdentifiersAndLocale";
+    static final String CREATE = "createTranslation";
+    static final String UPDATE = "updateTranslation";
+
+    private static final long POOL_SAMPLING_INTERVAL_MILLIS = 50;
+
+    private final TranslationService translationService;
+    private final TranslationCatalog catalog;
+    private final HikariPoolMXBean pool;
+    private final int threads;
+    private final Duration duration;
+    private final double writeRatio;
+    private final int batchSize;
+
+    TranslationLoadDriver(
+        final TranslationService translationService,
+        final TranslationCatalog catalog,
+        final HikariPoolMXBean pool,
+        final int threads,
+        final Duration duration,
+        final double writeRatio,
+        final int batchSize
+    ) {
+        this.translationService = translationService;
+        this.catalog = catalog;
+        this.pool = pool;
+        this.threads = threads;
+        this.duration = duration;
+        this.writeRatio = writeRatio;
+        this.batchSize = batchSize;
+    }
+
+    LoadReport run(final long seed) throws Exception {
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var sampler = Executors.newSingleThreadScheduledExecutor();
+        final var poolUsage = new PoolUsage();
+        try {
+            sampler.scheduleAtFixedRate(
+                () -> poolUsage.sample(pool),
+                0,
+                POOL_SAMPLING_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS
+            );
+
+            final var deadline = System.nanoTime() + duration.toNanos();
+            final var workers = new ArrayList<Callable<Map<String, Samples>>>();
+            for (int i = 0; i < threads; i++) {
+                final var random = new Random(seed + i);
+                workers.add(() -> work(random, deadline));
+            }
+
+            final var start = System.nanoTime();
+            final var merged = new TreeMap<String, Samples>();
+            for (final var result : executor.invokeAll(workers)) {
+                result
+                    .get()
+                    .forEach((operation, samples) -> merged.computeIfAbsent(operation, o -> new Samples()).addAll(samples));
+            }
+            final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            final var operations = new ArrayList<OperationReport>();
+            merged.forEach((operation, samples) -> operations.add(samples.report(operation, elapsed)));
+            return new LoadReport(operations, poolUsage.report(pool.getTotalConnections()));
+        } finally {
+            sampler.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Samples> work(final Random random, final long deadline) {
+        final var samples = new HashMap<String, Samples>();
+        while (System.nanoTime() < deadline) {
+            final var operation = pickOperation(random);
+            final var start = System.nanoTime();
+            var failed = false;
+            try {
+                execute(operation, random);
+            } catch (final RuntimeException e) {
+                failed = true;
+            }
+            samples.computeIfAbsent(operation, o -> new Samples()).add(System.nanoTime() - start, failed);
+        }
+        return samples;
+    }
+
+    private String pickOperation(final Random random) {
+        final var value = random.nextDouble();
+        if (value < writeRatio / 2) {
+            return CREATE;
+        } else if (value < writeRatio) {
+            return UPDATE;
+        }
+        return random.nextBoolean() ? FIND_TEXT : FIND_TEXTS;
+    }
+
+    private void execute(final String operation, final Random random) {
+        final var identifiers = catalog.identifiers();
+        final var locales = catalog.locales();
+        switch (operation) {
+            case FIND_TEXT -> translationService.findTextByIdentifierAndLocale(
+                identifiers.get(random.nextInt(identifiers.size())),
+                locales.get(random.nextInt(locales.size()))
+            );
+            case FIND_TEXTS -> {
+                final var batch = new HashSet<Integer>();
+                while (batch.size() < Math.min(batchSize, identifiers.size())) {
+                    batch.add(identifiers.get(random.nextInt(identifiers.size())));
+                }
+                translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
+                    batch,
+                    locales.get(random.nextInt(locales.size()))
+                );
+            }
+            case CREATE -> translationService.createTranslation(new TranslationTextDto("Load test " + random.nextLong()));
+            case UPDATE -> translationService.updateTranslation(
+                identifiers.get(random.nextInt(identifiers.size())),
+                locales.get(0),
+                "Load test " + random.nextLong()
+            );
+            default -> throw new IllegalArgumentException(operation);
+        }
+    }
+
+    /**
+     * Latencies of calls of a single operation.
+     */
+    private static class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(final long latency, final boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (failed) {
+                errors++;
+            }
+        }
+
+        void addAll(final Samples samples) {
+            for (int i = 0; i < samples.count; i++) {
+                add(samples.latencies[i], false);
+            }
+            errors += samples.errors;
+        }
+
+        OperationReport report(final String operation, final Duration elapsed) {
+            final var sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new OperationReport(
+                operation,
+                count,
+                errors,
+                count / (elapsed.toNanos() / 1e9),
+                percentile(sorted, 0.5),
+                percentile(sorted, 0.99)
+            );
+        }
+
+        private static Duration percentile(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos(sorted[(int) Math.ceil(percentile * sorted.length) - 1]);
+        }
+    }
+
+    /**
+     * Connection pool usage accumulated from periodic samples.
+     */
+    private static class PoolUsage {
+
+        private long samples;
+        private long activeSum;
+        private int maxActive;
+        private int maxAwaiting;
+        private long saturatedSamples;
+
+        synchronized void sample(final HikariPoolMXBean pool) {
+            final var active = pool.getActiveConnections();
+            final var awaiting = pool.getThreadsAwaitingConnection();
+            samples++;
+            activeSum += active;
+            maxActive = Math.max(maxActive, active);
+            maxAwaiting = Math.max(maxAwaiting, awaiting);
+            if (awaiting > 0) {
+                saturatedSamples++;
+            }
+        }
+
+        synchronized PoolReport report(final int size) {
+            return new PoolReport(
+                size,
+                samples == 0 ? 0 : (double) activeSum / samples,
+                maxActive,
+                maxAwaiting,
+                samples == 0 ? 0 : (double) saturatedSamples / samples
+            );
+        }
+    }
+
+    record OperationReport(
+        String operation,
+        int calls,
+        int errors,
+        double throughput,
+        Duration p50,
+        Duration p99
+    ) {}
+
+    /**
+     * @param size             number of connections in the pool
+     * @param averageActive    average number of connections in use
+     * @param maxActive        maximum number of connections in use
+     * @param maxAwaiting      maximum number of threads waiting for a connection
+     * @param saturatedFraction fraction of samples with at least one thread waiting for a connection
+     */
+    record PoolReport(int size, double averageActive, int maxActive, int maxAwaiting, double saturatedFraction) {}
+
+    record LoadReport(List<OperationReport> operations, PoolReport pool) {
+        int errors() {
+            return operations.stream().mapToInt(OperationReport::errors).sum();
+        }
+
+        @Override
+        public String toString() {
+            final var report = new StringBuilder(
+                String.format(
+                    "%-50s %10s %10s %10s %10s %8s%n",
+                    "Operation",
+                    "Calls",
+                    "Ops/s",
+                    "p50 [ms]",
+                    "p99 [ms]",
+                    "Errors"
+                )
+            );
+            for (final var operation : operations) {
+                report.append(
+                    String.format(
+                        "%-50s %10d %10.1f %10.3f %10.3f %8d%n",
+                        operation.operation(),
+                        operation.calls(),
+                        operation.throughput(),
+                        operation.p50().toNanos() / 1e6,
+                        operation.p99().toNanos() / 1e6,
+                        operation.errors()
+                    )
+                );
+            }
+            report.append(
+                String.format(
+                    "Connection pool: size %d, active average %.1f, active max %d, awaiting max %d, saturated %.1f%%%n",
+                    pool.size(),
+                    pool.averageActive(),
+                    pool.maxActive(),
+                    pool.maxAwaiting(),
+                    pool.saturatedFraction() * 100
+                )
+            );
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.kwezal.bearinmind.translation.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import com.zaxxer.hikari.HikariDataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+/**
+ * Load test of {@link TranslationService}, run only with {@code -Dload-test=true}.
+ * The workload can be configured with the following system properties:
+ * <ul>
+ *     <li>{@code load-test.identifiers} - number of generated translations (default 10000)</li>
+ *     <li>{@code load-test.locales} - number of locales, including the application locale (default 10)</li>
+ *     <li>{@code load-test.density} - probability of a translation having a text in a non-default locale (default 0.3)</li>
+ *     <li>{@code load-test.threads} - number of concurrent threads (default 32)</li>
+ *     <li>{@code load-test.duration} - duration in ISO-8601 format (default PT30S)</li>
+ *     <li>{@code load-test.write-ratio} - fraction of calls that create or update translations (default 0.1)</li>
+ *     <li>{@code load-test.batch-size} - number of identifiers requested at once (default 20)</li>
+ *     <li>{@code load-test.seed} - random seed (default 0)</li>
+ * </ul>
+ * The report is logged and saved to {@code target/load-test-report.txt}.
+ */
+@Slf4j
+@SpringBootTest
+@Sql(
+    scripts = "/com/kwezal/bearinmind/translation/db/cleanup/TRANSLATION.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+class TranslationLoadTest {
+
+    private static final Path REPORT_PATH = Path.of("target", "load-test-report.txt");
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void Should_CompleteMixedWorkloadWithoutErrors_When_RunConcurrently() throws Exception {
+        // GIVEN
+        final var seed = Long.getLong("load-test.seed", 0);
+        final var catalog = new TranslationCatalogGenerator(dataSource, seed)
+            .generate(
+                applicationLocale,
+                Integer.getInteger("load-test.identifiers", 10000),
+                Integer.getInteger("load-test.locales", 10),
+                Double.parseDouble(System.getProperty("load-test.density", "0.3"))
+            );
+        final var driver = new TranslationLoadDriver(
+            translationService,
+            catalog,
+            dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean(),
+            Integer.getInteger("load-test.threads", 32),
+            Duration.parse(System.getProperty("load-test.duration", "PT30S")),
+            Double.parseDouble(System.getProperty("load-test.write-ratio", "0.1")),
+            Integer.getInteger("load-test.batch-size", 20)
+        );
+
+        // WHEN
+        final var report = driver.run(seed);
+
+        // THEN
+        log.info("Load test report:\n{}", report);
+        Files.createDirectories(REPORT_PATH.getParent());
+        Files.writeString(REPORT_PATH, report.toString());
+        assertEquals(0, report.errors());
+    }
+}
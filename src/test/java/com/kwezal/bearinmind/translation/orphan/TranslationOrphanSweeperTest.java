@@ -0,0 +1,104 @@
+package com.kwezal.bearinmind.translation.orphan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.CannotAcquireLockException;
+
+class TranslationOrphanSweeperTest {
+
+    private static final long FIRST_SWEEP_VERSION = 10;
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(translationService.findLatestVersion()).thenReturn(FIRST_SWEEP_VERSION, 20L);
+        when(translationService.findIdentifiersUnchangedSince(null, FIRST_SWEEP_VERSION, 2)).thenReturn(List.of(1, 2));
+        when(translationService.findIdentifiersUnchangedSince(2, FIRST_SWEEP_VERSION, 2)).thenReturn(List.of(3));
+        when(translationService.findIdentifiersUnchangedSince(3, FIRST_SWEEP_VERSION, 2)).thenReturn(List.of());
+    }
+
+    @Test
+    void Should_DeleteUnreferencedTranslationsUnchangedSincePreviousSweep_When_Sweeping() throws InterruptedException {
+        // GIVEN
+        final var sweeper = createSweeper(Map.of("courses", () -> List.of(2)), false);
+        when(translationService.deleteAllTranslationsUnchangedSince(List.of(1), FIRST_SWEEP_VERSION))
+            .thenThrow(new CannotAcquireLockException("Locked"))
+            .thenReturn(2);
+        when(translationService.deleteAllTranslationsUnchangedSince(List.of(3), FIRST_SWEEP_VERSION)).thenReturn(1);
+
+        // WHEN
+        final var firstResult = sweeper.sweep();
+        final var secondResult = sweeper.sweep();
+
+        // THEN
+        assertEquals(0, firstResult);
+        assertEquals(3, secondResult);
+        assertEquals(3, meterRegistry.counter(TranslationOrphanSweeper.RECLAIMED_METRIC, "dry-run", "false").count());
+    }
+
+    @Test
+    void Should_OnlyCountUnreferencedTranslations_When_DryRun() throws InterruptedException {
+        // GIVEN
+        final var sweeper = createSweeper(Map.of("courses", () -> List.of(2)), true);
+        when(translationService.countTranslationsBy(List.of(1))).thenReturn(2L);
+        when(translationService.countTranslationsBy(List.of(3))).thenReturn(1L);
+        sweeper.sweep();
+
+        // WHEN
+        final var result = sweeper.sweep();
+
+        // THEN
+        assertEquals(3, result);
+        verify(translationService, never()).deleteAllTranslationsUnchangedSince(any(), anyLong());
+    }
+
+    @Test
+    void Should_NotDeleteAnything_When_ThereAreNoReferenceProviders() throws InterruptedException {
+        // GIVEN
+        final var sweeper = createSweeper(Map.of(), false);
+        sweeper.sweep();
+
+        // WHEN
+        final var result = sweeper.sweep();
+
+        // THEN
+        assertEquals(0, result);
+        verify(translationService, never()).findIdentifiersUnchangedSince(any(), anyLong(), anyInt());
+    }
+
+    private TranslationOrphanSweeper createSweeper(
+        final Map<String, TranslationReferenceProvider> referenceProviders,
+        final boolean isDryRun
+    ) {
+        final var beans = new HashMap<String, Object>(referenceProviders);
+        beans.put("meterRegistry", meterRegistry);
+        final var beanFactory = new StaticListableBeanFactory(beans);
+        return new TranslationOrphanSweeper(
+            translationService,
+            beanFactory.getBeanProvider(TranslationReferenceProvider.class),
+            beanFactory.getBeanProvider(MeterRegistry.class),
+            Duration.ofHours(1),
+            2,
+            Duration.ZERO,
+            Duration.ofMillis(10),
+            3,
+            isDryRun
+        );
+    }
+}
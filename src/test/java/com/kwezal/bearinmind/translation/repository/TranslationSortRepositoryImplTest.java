@@ -0,0 +1,24 @@
+package com.kwezal.bearinmind.translation.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TranslationSortRepositoryImplTest {
+
+    @ParameterizedTest
+    @CsvSource({ "en,en-x-icu", "plPL,pl-PL-x-icu" })
+    void Should_ReturnIcuCollation_When_LocaleIsValid(final String locale, final String expectedCollation) {
+        // THEN
+        assertEquals(expectedCollation, TranslationSortRepositoryImpl.toCollation(locale));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "EN", "en-US", "en\" COLLATE \"C" })
+    void Should_ThrowIllegalArgumentException_When_LocaleIsInvalid(final String locale) {
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> TranslationSortRepositoryImpl.toCollation(locale));
+    }
+}
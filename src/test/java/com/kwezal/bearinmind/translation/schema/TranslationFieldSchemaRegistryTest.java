@@ -0,0 +1,56 @@
+package com.kwezal.bearinmind.translation.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TranslationFieldSchemaRegistryTest {
+
+    private final TranslationFieldSchemaRegistry registry = new TranslationFieldSchemaRegistry();
+
+    @Test
+    void Should_ReturnSameSchema_When_RegisteredAgainWithSameFields() {
+        // GIVEN
+        final var schema = registry.register("course", Set.of("title"), Set.of("description"));
+
+        // WHEN
+        final var result = registry.register("course", Set.of("title"), Set.of("description"));
+
+        // THEN
+        assertSame(schema, result);
+        assertSame(schema, registry.find("course"));
+    }
+
+    @Test
+    void Should_CompileFieldsToDistinctBits_When_SchemaIsRegistered() {
+        // WHEN
+        final var schema = registry.register("course", Set.of("title", "subtitle"), Set.of("description"));
+
+        // THEN
+        final var titleBit = schema.bit("title");
+        final var subtitleBit = schema.bit("subtitle");
+        final var descriptionBit = schema.bit("description");
+        assertEquals(3, Long.bitCount(titleBit | subtitleBit | descriptionBit));
+        assertEquals(titleBit | subtitleBit, schema.requiredMask());
+        assertEquals(0, schema.bit("author"));
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_SchemaIsInvalidOrRegisteredWithDifferentFields() {
+        // GIVEN
+        registry.register("course", Set.of("title"), Set.of("description"));
+        final var tooManyFields = IntStream.rangeClosed(0, TranslationFieldSchema.MAX_FIELDS).mapToObj(i -> "field" + i);
+
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> registry.register("course", Set.of("title"), Set.of()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("lesson", Set.of("title"), Set.of("title")));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> registry.register("lesson", tooManyFields.collect(Collectors.toSet()), Set.of())
+        );
+        assertThrows(IllegalArgumentException.class, () -> registry.find("lesson"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TranslationCatalogServiceTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final TranslationCatalogService translationCatalogService = new TranslationCatalogService(translationService);
+
+    @Test
+    void Should_SyncTranslationsGroupedByIdentifier_When_CatalogIsValid() {
+        // GIVEN
+        final var catalog = """
+            -1.en=Save
+            -1.da=Gem
+            # Comment
+            -2.en=Cancel ❌
+            """;
+
+        // WHEN
+        translationCatalogService.syncProperties(stream(catalog));
+
+        // THEN
+        verify(translationService)
+            .syncTranslations(Map.of(-1, Map.of("en", "Save", "da", "Gem"), -2, Map.of("en", "Cancel ❌")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "save.en=Save", "99999999999.en=Save" })
+    void Should_ThrowInvalidRequestDataException_When_CatalogKeyIsInvalid(String entry) {
+        // GIVEN
+        final var catalog = stream(entry);
+
+        // THEN
+        assertThrows(InvalidRequestDataException.class, () -> translationCatalogService.syncProperties(catalog));
+        verifyNoInteractions(translationService);
+    }
+
+    private static ByteArrayInputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static com.kwezal.bearinmind.translation.event.TranslationChangeType.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.event.TranslationChange;
+import com.kwezal.bearinmind.translation.event.TranslationChangeEvent;
+import com.kwezal.bearinmind.translation.event.TranslationChangeType;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TranslationChangeNotifierTest {
+
+    private final TranslationChangeListener listener = mock(TranslationChangeListener.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    private final TranslationChangeNotifier translationChangeNotifier = new TranslationChangeNotifier(
+        new StaticListableBeanFactory(Map.of("listener", listener)).getBeanProvider(TranslationChangeListener.class),
+        applicationEventPublisher,
+        new StaticListableBeanFactory().getBeanProvider(TranslationTenancy.class)
+    );
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void Should_PublishSingleMergedEvent_When_TransactionIsCommitted() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+        translationChangeNotifier.translationsChanged(List.of(change(1, "en", CREATED), change(1, "da", CREATED)));
+        translationChangeNotifier.translationsChanged(List.of(change(1, "en", UPDATED), change(2, "en", UPDATED)));
+        translationChangeNotifier.translationsChanged(List.of(change(1, "da", DELETED), change(3, "en", DELETED)));
+        verifyNoInteractions(listener, applicationEventPublisher);
+
+        // WHEN
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+        );
+
+        // THEN
+        final var expectedChanges = List.of(change(1, "en", CREATED), change(2, "en", UPDATED), change(3, "en", DELETED));
+        verify(applicationEventPublisher).publishEvent(new TranslationChangeEvent(expectedChanges, null));
+        verify(listener).onTranslationsChanged(Set.of(1, 2, 3));
+        verify(listener, never()).onTranslationCountsChanged(any());
+    }
+
+    @Test
+    void Should_NotifyImmediately_When_ThereIsNoTransaction() {
+        // WHEN
+        translationChangeNotifier.translationsChanged(List.of(change(1, "da", CREATED)));
+
+        // THEN
+        verify(applicationEventPublisher).publishEvent(new TranslationChangeEvent(List.of(change(1, "da", CREATED)), null));
+        verify(listener).onTranslationsChanged(Set.of(1));
+        verify(listener).onTranslationCountsChanged(Map.of("da", 1L));
+    }
+
+    @Test
+    void Should_PublishEventWithTenantSchema_When_TenancyIsEnabled() {
+        // GIVEN
+        final var tenancy = new TranslationTenancy(mock(DataSource.class), () -> "university", "translations_", "public");
+        final var tenantChangeNotifier = new TranslationChangeNotifier(
+            new StaticListableBeanFactory(Map.of("listener", listener)).getBeanProvider(TranslationChangeListener.class),
+            applicationEventPublisher,
+            new StaticListableBeanFactory(Map.of("tenancy", tenancy)).getBeanProvider(TranslationTenancy.class)
+        );
+
+        // WHEN
+        tenantChangeNotifier.translationsChanged(List.of(change(1, "da", UPDATED)));
+
+        // THEN
+        verify(applicationEventPublisher)
+            .publishEvent(new TranslationChangeEvent(List.of(change(1, "da", UPDATED)), "translations_university"));
+    }
+
+    private static TranslationChange change(final int identifier, final String locale, final TranslationChangeType type) {
+        return new TranslationChange(identifier, locale, type);
+    }
+}
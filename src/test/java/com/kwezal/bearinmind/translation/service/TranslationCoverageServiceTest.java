@@ -0,0 +1,90 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationCoverageDto;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TranslationCoverageServiceTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final TranslationCoverageService translationCoverageService = new TranslationCoverageService(
+        translationService,
+        "en",
+        Duration.ofHours(1)
+    );
+
+    @AfterEach
+    void tearDown() {
+        translationCoverageService.stop();
+    }
+
+    @Test
+    void Should_UpdateCountsIncrementally_When_TranslationCountsChange() {
+        // GIVEN
+        when(translationService.countTranslationsByLocale()).thenReturn(Map.of("en", 10L, "da", 4L));
+        translationCoverageService.start();
+
+        // WHEN
+        translationCoverageService.onTranslationCountsChanged(Map.of("en", 2L, "da", -4L, "pl", 1L));
+
+        // THEN
+        assertEquals(
+            List.of(new TranslationCoverageDto("en", 12L, 12L), new TranslationCoverageDto("pl", 1L, 12L)),
+            translationCoverageService.findCoverage()
+        );
+        assertEquals(new TranslationCoverageDto("da", 0L, 12L), translationCoverageService.findCoverage("da"));
+        verify(translationService, times(1)).countTranslationsByLocale();
+    }
+
+    @Test
+    void Should_ApplyChangesReportedWhileCounting_When_Reconciling() {
+        // GIVEN
+        when(translationService.countTranslationsByLocale())
+            .thenAnswer(invocation -> {
+                translationCoverageService.onTranslationCountsChanged(Map.of("da", 1L));
+                return Map.of("en", 10L, "da", 4L);
+            });
+
+        // WHEN
+        translationCoverageService.reconcile();
+
+        // THEN
+        assertEquals(new TranslationCoverageDto("da", 5L, 10L), translationCoverageService.findCoverage("da"));
+    }
+
+    @Test
+    void Should_ApplyChangesToEveryRecount_When_ReconcilingConcurrently() throws Exception {
+        // GIVEN
+        final var isFirstCounting = new CountDownLatch(1);
+        final var canFirstFinish = new CountDownLatch(1);
+        when(translationService.countTranslationsByLocale())
+            .thenAnswer(invocation -> {
+                isFirstCounting.countDown();
+                canFirstFinish.await(5, TimeUnit.SECONDS);
+                translationCoverageService.onTranslationCountsChanged(Map.of("da", 1L));
+                return Map.of("en", 10L, "da", 4L);
+            })
+            .thenReturn(Map.of("en", 10L, "da", 6L));
+        final var firstReconciliation = CompletableFuture.runAsync(translationCoverageService::reconcile);
+        assertTrue(isFirstCounting.await(5, TimeUnit.SECONDS));
+
+        // WHEN
+        final var secondReconciliation = CompletableFuture.runAsync(translationCoverageService::reconcile);
+        Thread.sleep(100);
+        canFirstFinish.countDown();
+
+        // THEN
+        assertDoesNotThrow(() -> firstReconciliation.get(5, TimeUnit.SECONDS));
+        assertDoesNotThrow(() -> secondReconciliation.get(5, TimeUnit.SECONDS));
+        assertEquals(new TranslationCoverageDto("da", 6L, 10L), translationCoverageService.findCoverage("da"));
+    }
+}
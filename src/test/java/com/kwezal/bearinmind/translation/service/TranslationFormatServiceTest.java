@@ -0,0 +1,83 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class TranslationFormatServiceTest {
+
+    private static final String LESSONS_PATTERN = "{count, plural, one {# lesson} other {# lessons}}";
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final TranslationFormatService translationFormatService = new TranslationFormatService(
+        translationService,
+        new StaticListableBeanFactory().getBeanProvider(TranslationTenancy.class),
+        10
+    );
+
+    @Test
+    void Should_ParsePatternOnce_When_TextIsFormattedRepeatedly() {
+        // GIVEN
+        when(translationService.findTextByIdentifierAndLocale(1, "en")).thenReturn(LESSONS_PATTERN);
+
+        // WHEN
+        final var one = translationFormatService.formatTextByIdentifierAndLocale(1, "en", Map.of("count", 1));
+        final var many = translationFormatService.formatTextByIdentifierAndLocale(1, "en", Map.of("count", 5));
+
+        // THEN
+        assertEquals("1 lesson", one);
+        assertEquals("5 lessons", many);
+        verify(translationService, times(1)).findTextByIdentifierAndLocale(1, "en");
+    }
+
+    @Test
+    void Should_UsePluralRulesOfLanguage_When_LocaleHasRegion() {
+        // GIVEN
+        when(translationService.findTextByIdentifierAndLocale(1, "plPL"))
+            .thenReturn("{count, plural, one {# plik} few {# pliki} many {# plików} other {# pliku}}");
+
+        // WHEN
+        final var few = translationFormatService.formatTextByIdentifierAndLocale(1, "plPL", Map.of("count", 3));
+        final var many = translationFormatService.formatTextByIdentifierAndLocale(1, "plPL", Map.of("count", 5));
+
+        // THEN
+        assertEquals("3 pliki", few);
+        assertEquals("5 plików", many);
+    }
+
+    @Test
+    void Should_LoadTextAgain_When_TranslationHasChanged() {
+        // GIVEN
+        when(translationService.findTextByIdentifierAndLocale(1, "en")).thenReturn(LESSONS_PATTERN, "{count} lessons");
+        translationFormatService.formatTextByIdentifierAndLocale(1, "en", Map.of("count", 1));
+
+        // WHEN
+        translationFormatService.onTranslationsChanged(Set.of(1));
+
+        // THEN
+        assertEquals("1 lessons", translationFormatService.formatTextByIdentifierAndLocale(1, "en", Map.of("count", 1)));
+    }
+
+    @Test
+    void Should_LoadOnlyUncachedTexts_When_TextsAreFormattedInBatch() {
+        // GIVEN
+        when(translationService.findTextByIdentifierAndLocale(1, "en")).thenReturn(LESSONS_PATTERN);
+        when(translationService.findAllIdentifierAndTextByIdentifiersAndLocale(Set.of(2, 3), "en"))
+            .thenReturn(Map.of(2, "Hello, {name}!"));
+        translationFormatService.formatTextByIdentifierAndLocale(1, "en", Map.of("count", 1));
+
+        // WHEN
+        final var result = translationFormatService.formatAllIdentifierAndTextByIdentifiersAndLocale(
+            Map.of(1, Map.of("count", 2), 2, Map.of("name", "Ann"), 3, Map.of()),
+            "en"
+        );
+
+        // THEN
+        assertEquals(Map.of(1, "2 lessons", 2, "Hello, Ann!"), result);
+    }
+}
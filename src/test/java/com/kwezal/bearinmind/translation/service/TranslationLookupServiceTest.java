@@ -0,0 +1,205 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.metrics.TranslationResolvedTextCounter;
+import com.kwezal.bearinmind.translation.tenant.TranslationTenancy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+class TranslationLookupServiceTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TranslationLookupService translationLookupService;
+
+    @AfterEach
+    void shutdown() {
+        translationLookupService.shutdown();
+    }
+
+    @Test
+    void Should_ReturnKnownText_When_DatabaseFails() {
+        // GIVEN
+        translationLookupService = createService(Duration.ofSeconds(1), Duration.ZERO);
+        when(translationService.findTextAndLocaleByIdentifierAndLocale(eq(1), eq("en"), any()))
+            .thenReturn(new TranslationTextAndLocaleDto("Monolingual text", "en"))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        translationLookupService.findTextByIdentifierAndLocale(1, "en");
+
+        // WHEN
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (degradedCount() == 0 && System.nanoTime() < deadline) {
+            // THEN
+            assertEquals("Monolingual text", translationLookupService.findTextByIdentifierAndLocale(1, "en"));
+        }
+
+        // AND
+        assertTrue(degradedCount() > 0);
+    }
+
+    @Test
+    void Should_ThrowQueryTimeoutException_When_UnknownTextIsNotLoadedInTime() {
+        // GIVEN
+        translationLookupService = createService(Duration.ofMillis(50), Duration.ofMinutes(1));
+        when(translationService.findTextAndLocaleByIdentifierAndLocale(eq(1), eq("en"), any()))
+            .thenAnswer(invocation -> {
+                Thread.sleep(1000);
+                return new TranslationTextAndLocaleDto("Monolingual text", "en");
+            });
+
+        // THEN
+        assertThrows(QueryTimeoutException.class, () -> translationLookupService.findTextByIdentifierAndLocale(1, "en"));
+    }
+
+    @Test
+    void Should_ThrowDataAccessResourceFailureException_When_CircuitIsOpen() {
+        // GIVEN
+        translationLookupService = createService(Duration.ofSeconds(1), Duration.ofMinutes(1));
+        when(translationService.findTextAndLocaleByIdentifierAndLocale(eq(1), eq("en"), any()))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertThrows(
+            DataAccessResourceFailureException.class,
+            () -> translationLookupService.findTextByIdentifierAndLocale(1, "en")
+        );
+
+        // THEN
+        assertThrows(
+            DataAccessResourceFailureException.class,
+            () -> translationLookupService.findTextByIdentifierAndLocale(1, "en")
+        );
+        verify(translationService, times(1)).findTextAndLocaleByIdentifierAndLocale(eq(1), eq("en"), any());
+    }
+
+    @Test
+    void Should_LetCallsThrough_When_TrialCallOfHalfOpenCircuitWasInterrupted() throws InterruptedException {
+        // GIVEN
+        final var openFor = Duration.ofMillis(50);
+        translationLookupService = createService(Duration.ofSeconds(5), Duration.ofMinutes(1), openFor);
+        final var trialStarted = new CountDownLatch(1);
+        when(translationService.findTextAndLocaleByIdentifierAndLocale(eq(1), eq("en"), any()))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+            .thenAnswer(invocation -> {
+                trialStarted.countDown();
+                Thread.sleep(10_000);
+                return new TranslationTextAndLocaleDto("Monolingual text", "en");
+            })
+            .thenReturn(new TranslationTextAndLocaleDto("Monolingual text", "en"));
+
+        assertThrows(
+            DataAccessResourceFailureException.class,
+            () -> translationLookupService.findTextByIdentifierAndLocale(1, "en")
+        );
+        Thread.sleep(openFor.multipliedBy(2).toMillis());
+
+        final var callingThread = Thread.currentThread();
+        final var interruptingThread = new Thread(() -> {
+            try {
+                trialStarted.await();
+                callingThread.interrupt();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        interruptingThread.start();
+        assertThrows(
+            DataAccessResourceFailureException.class,
+            () -> translationLookupService.findTextByIdentifierAndLocale(1, "en")
+        );
+        assertTrue(Thread.interrupted());
+        interruptingThread.join();
+        Thread.sleep(openFor.multipliedBy(2).toMillis());
+
+        // WHEN
+        final var result = translationLookupService.findTextByIdentifierAndLocale(1, "en");
+
+        // THEN
+        assertEquals("Monolingual text", result);
+    }
+
+    @Test
+    void Should_LoadTextAgain_When_TranslationChangedWhileLoading() {
+        // GIVEN
+        translationLookupService = createService(Duration.ofSeconds(1), Duration.ofMinutes(1));
+        when(translationService.findTextAndLocaleByIdentifierAndLocale(eq(1), eq("en"), any()))
+            .thenAnswer(invocation -> {
+                translationLookupService.onTranslationsChanged(Set.of(1));
+                return new TranslationTextAndLocaleDto("Outdated text", "en");
+            })
+            .thenReturn(new TranslationTextAndLocaleDto("Monolingual text", "en"));
+
+        translationLookupService.findTextByIdentifierAndLocale(1, "en");
+
+        // WHEN
+        final var result = translationLookupService.findTextByIdentifierAndLocale(1, "en");
+
+        // THEN
+        assertEquals("Monolingual text", result);
+    }
+
+    @Test
+    void Should_CountFallback_When_KnownTextIsResolvedFromApplicationLocale() {
+        // GIVEN
+        translationLookupService = createService(Duration.ofSeconds(1), Duration.ofMinutes(1));
+        when(translationService.findTextAndLocaleByIdentifierAndLocale(eq(1), eq("pl"), any()))
+            .thenReturn(new TranslationTextAndLocaleDto("Monolingual text", "en"));
+
+        translationLookupService.findTextByIdentifierAndLocale(1, "pl");
+
+        // WHEN
+        translationLookupService.findTextByIdentifierAndLocale(1, "pl");
+
+        // THEN
+        assertEquals(
+            1,
+            meterRegistry
+                .get(TranslationResolvedTextCounter.RESOLVED_METRIC)
+                .tags("operation", "findTextByIdentifierAndLocale", "locale", "non-default", "fallback", "true")
+                .counter()
+                .count()
+        );
+    }
+
+    private TranslationLookupService createService(final Duration timeout, final Duration freshFor) {
+        return createService(timeout, freshFor, Duration.ofHours(1));
+    }
+
+    private TranslationLookupService createService(final Duration timeout, final Duration freshFor, final Duration openFor) {
+        final var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new TranslationLookupService(
+            translationService,
+            new TranslationResolvedTextCounter(beanFactory.getBeanProvider(MeterRegistry.class), "en"),
+            beanFactory.getBeanProvider(MeterRegistry.class),
+            beanFactory.getBeanProvider(TranslationTenancy.class),
+            timeout,
+            freshFor,
+            100,
+            2,
+            1,
+            openFor
+        );
+    }
+
+    private double degradedCount() {
+        return meterRegistry
+            .find(TranslationLookupService.DEGRADED_METRIC)
+            .counters()
+            .stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+}
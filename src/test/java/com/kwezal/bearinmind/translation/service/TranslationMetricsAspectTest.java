@@ -0,0 +1,220 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.cache.OffHeapTranslationCache;
+import com.kwezal.bearinmind.translation.cache.TranslationCache;
+import com.kwezal.bearinmind.translation.cache.TranslationTextInterner;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.dto.TranslationTextAndLocaleDto;
+import com.kwezal.bearinmind.translation.mapper.TranslationMapper;
+import com.kwezal.bearinmind.translation.metrics.TranslationMetricsAspect;
+import com.kwezal.bearinmind.translation.metrics.TranslationResolvedTextCounter;
+import com.kwezal.bearinmind.translation.model.Translation;
+import com.kwezal.bearinmind.translation.repository.TranslationDeletionRepository;
+import com.kwezal.bearinmind.translation.repository.TranslationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+class TranslationMetricsAspectTest {
+
+    private static final String EVENT_NAME = "com.kwezal.bearinmind.translation.TranslationServiceCall";
+
+    private final TranslationRepository translationRepository = mock(TranslationRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TranslationService translationService;
+
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+    @BeforeEach
+    void setUp() {
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        final var aspect = new TranslationMetricsAspect(beanFactory.getBeanProvider(MeterRegistry.class), "en");
+
+        final var repositoryProxyFactory = new AspectJProxyFactory(translationRepository);
+        repositoryProxyFactory.addInterface(TranslationRepository.class);
+        repositoryProxyFactory.addAspect(aspect);
+        final TranslationRepository proxiedRepository = repositoryProxyFactory.getProxy();
+
+        final var service = new TranslationService(
+            proxiedRepository,
+            mock(TranslationDeletionRepository.class),
+            mock(TranslationMapper.class),
+            mock(TranslationValidationService.class),
+            mock(TranslationChangeNotifier.class),
+            beanFactory.getBeanProvider(TranslationCache.class),
+            beanFactory.getBeanProvider(TranslationTextInterner.class),
+            new TranslationResolvedTextCounter(beanFactory.getBeanProvider(MeterRegistry.class), "en")
+        );
+        ReflectionTestUtils.setField(service, "applicationLocale", "en");
+
+        final var serviceProxyFactory = new AspectJProxyFactory(service);
+        serviceProxyFactory.setProxyTargetClass(true);
+        serviceProxyFactory.addAspect(aspect);
+        translationService = serviceProxyFactory.getProxy();
+    }
+
+    @Test
+    void Should_CountFallback_When_TextIsResolvedFromApplicationLocale() {
+        // GIVEN
+        when(translationRepository.findTextAndLocaleByIdentifierAndLocaleOrDefaultLocale(1, "pl", "en"))
+            .thenReturn(Optional.of(new TranslationTextAndLocaleDto("Monolingual text", "en")));
+
+        // WHEN
+        translationService.findTextByIdentifierAndLocale(1, "pl");
+
+        // THEN
+        assertEquals(
+            1,
+            meterRegistry
+                .get(TranslationMetricsAspect.SERVICE_METRIC)
+                .tags("operation", "findTextByIdentifierAndLocale", "locale", "non-default", "exception", "none")
+                .timer()
+                .count()
+        );
+        assertEquals(
+            1,
+            meterRegistry.get(TranslationResolvedTextCounter.RESOLVED_METRIC).tags("fallback", "true").counter().count()
+        );
+    }
+
+    @Test
+    void Should_CountFallback_When_TextIsFoundInCache() {
+        // GIVEN
+        final var cache = new OffHeapTranslationCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(1));
+        cache.put(1, "pl", new TranslationTextAndLocaleDto("Monolingual text", "en"), cache.generation());
+        beanFactory.addBean("translationCache", cache);
+
+        // WHEN
+        translationService.findTextByIdentifierAndLocale(1, "pl");
+
+        // THEN
+        verifyNoInteractions(translationRepository);
+        assertEquals(
+            1,
+            meterRegistry
+                .get(TranslationResolvedTextCounter.RESOLVED_METRIC)
+                .tags("operation", "findTextByIdentifierAndLocale", "locale", "non-default", "fallback", "true")
+                .counter()
+                .count()
+        );
+    }
+
+    @Test
+    void Should_CountNotFound_When_TranslationDoesNotExist() {
+        // GIVEN
+        when(translationRepository.findTextAndLocaleByIdentifierAndLocaleOrDefaultLocale(1, "en", "en"))
+            .thenReturn(Optional.empty());
+
+        // WHEN
+        assertThrows(ResourceNotFoundException.class, () -> translationService.findTextByIdentifierAndLocale(1, "en"));
+
+        // THEN
+        assertEquals(
+            1,
+            meterRegistry
+                .get(TranslationMetricsAspect.NOT_FOUND_METRIC)
+                .tags("operation", "findTextByIdentifierAndLocale", "locale", "default")
+                .counter()
+                .count()
+        );
+    }
+
+    @Test
+    void Should_RecordBatchSize_When_TextsAreRequestedByIdentifiers() {
+        // GIVEN
+        final var identifiers = List.of(1, 2, 3);
+        when(translationRepository.findAllIdentifierTextAndLocaleByIdentifiersAndLocaleOrDefaultLocale(identifiers, "pl", "en"))
+            .thenReturn(
+                List.of(
+                    new TranslationIdentifierTextAndLocaleDto(1, "Tekst", "pl"),
+                    new TranslationIdentifierTextAndLocaleDto(2, "Text", "en")
+                )
+            );
+
+        // WHEN
+        translationService.findAllIdentifierAndTextByIdentifiersAndLocale(identifiers, "pl");
+
+        // THEN
+        final var batchSize = meterRegistry.get(TranslationMetricsAspect.BATCH_SIZE_METRIC).summary();
+        assertEquals(1, batchSize.count());
+        assertEquals(3, batchSize.totalAmount());
+
+        // AND
+        assertEquals(
+            1,
+            meterRegistry.get(TranslationResolvedTextCounter.RESOLVED_METRIC).tags("fallback", "false").counter().count()
+        );
+        assertEquals(
+            1,
+            meterRegistry.get(TranslationResolvedTextCounter.RESOLVED_METRIC).tags("fallback", "true").counter().count()
+        );
+    }
+
+    @Test
+    void Should_RecordRowsWritten_When_TranslationsAreDeleted() {
+        // GIVEN
+        when(translationRepository.deleteAllByIdentifier(any()))
+            .thenReturn(List.of(new Translation(1L, 1, "en", "Text", 1L), new Translation(2L, 1, "pl", "Tekst", 2L)));
+
+        // WHEN
+        translationService.deleteAllTranslationBy(1);
+
+        // THEN
+        final var rowsWritten = meterRegistry
+            .get(TranslationMetricsAspect.ROWS_WRITTEN_METRIC)
+            .tags("operation", "deleteAllTranslationBy", "locale", "none")
+            .summary();
+        assertEquals(1, rowsWritten.count());
+        assertEquals(2, rowsWritten.totalAmount());
+    }
+
+    @Test
+    void Should_RecordFlightRecorderEvent_When_RecordingIsEnabled() throws Exception {
+        // GIVEN
+        final var identifiers = List.of(1, 2, 3);
+        when(translationRepository.findAllIdentifierTextAndLocaleByIdentifiersAndLocaleOrDefaultLocale(identifiers, "pl", "en"))
+            .thenReturn(List.of(new TranslationIdentifierTextAndLocaleDto(1, "Tekst", "pl")));
+        final var file = Files.createTempFile("translations", ".jfr");
+
+        // WHEN
+        try (final var recording = new Recording()) {
+            recording.enable(EVENT_NAME).withoutThreshold();
+            recording.start();
+            translationService.findAllIdentifierAndTextByIdentifiersAndLocale(identifiers, "pl");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // THEN
+        final var events = RecordingFile
+            .readAllEvents(file)
+            .stream()
+            .filter(event -> EVENT_NAME.equals(event.getEventType().getName()))
+            .toList();
+        Files.delete(file);
+        assertEquals(1, events.size());
+
+        // AND
+        final var event = events.get(0);
+        assertEquals("findAllIdentifierAndTextByIdentifiersAndLocale", event.getString("operation"));
+        assertEquals("pl", event.getString("locale"));
+        assertEquals("non-default", event.getString("queryPath"));
+        assertEquals(3, event.getInt("identifierCount"));
+        assertEquals(1, event.getLong("rowCount"));
+    }
+}
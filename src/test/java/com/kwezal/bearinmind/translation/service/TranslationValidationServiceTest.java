@@ -0,0 +1,136 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static java.util.Objects.isNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.translation.dto.TranslationMatrix;
+import com.kwezal.bearinmind.translation.schema.TranslationFieldSchema;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class TranslationValidationServiceTest {
+
+    private static final String APPLICATION_LOCALE = "en";
+
+    private final TranslationValidationService translationValidationService = new TranslationValidationService();
+    private final TranslationFieldSchema schema = TranslationFieldSchema.compile(
+        "test",
+        Set.of("required"),
+        Set.of("optional")
+    );
+
+    @Test
+    void Should_NotThrow_When_TranslationsConformToSchema() {
+        // GIVEN
+        final var localeFieldTextsMap = Map.of(
+            APPLICATION_LOCALE,
+            Map.of("required", "It's important", "optional", "It's less important"),
+            "da",
+            Map.of("required", "Det er vigtigt"),
+            "pl",
+            Map.of("optional", "To jest mniej ważne")
+        );
+
+        // THEN
+        assertDoesNotThrow(() ->
+            translationValidationService.validateFieldSchema(schema, TranslationMatrix.of(localeFieldTextsMap), APPLICATION_LOCALE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("Should_ThrowInvalidRequestDataException_When_TranslationsDoNotConformToSchema_Source")
+    void Should_ThrowInvalidRequestDataException_When_TranslationsDoNotConformToSchema(
+        Map<String, Map<String, String>> localeFieldTextsMap
+    ) {
+        // THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> translationValidationService.validateFieldSchema(schema, TranslationMatrix.of(localeFieldTextsMap), APPLICATION_LOCALE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("Should_ThrowInvalidRequestDataException_When_TranslationsDoNotConformToSchema_Source")
+    void Should_ThrowInvalidRequestDataException_When_TranslationsDoNotHaveExpectedFields(
+        Map<String, Map<String, String>> localeFieldTextsMap
+    ) {
+        // GIVEN
+        final var localeFieldTexts = TranslationMatrix.of(localeFieldTextsMap);
+
+        // THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> {
+                final var localeIndex = translationValidationService.validateIfTranslationsInLocaleExist(
+                    localeFieldTexts,
+                    APPLICATION_LOCALE
+                );
+                translationValidationService.validateIfTranslationsHaveRequiredFields(
+                    localeFieldTexts,
+                    localeIndex,
+                    schema.requiredFields()
+                );
+                translationValidationService.validateIfTranslationsContainOnlyExpectedFields(
+                    localeFieldTexts,
+                    localeIndex,
+                    schema.requiredFields(),
+                    schema.optionalFields()
+                );
+                translationValidationService.validateIfFieldIsNotDefinedIfNotPresentInLocale(localeFieldTexts, localeIndex);
+            }
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("Should_ThrowInvalidRequestDataException_When_TranslationsInApplicationLocaleDoNotExist_Source")
+    void Should_ThrowInvalidRequestDataException_When_TranslationsInApplicationLocaleDoNotExist(
+        Map<String, Map<String, String>> localeFieldTextsMap
+    ) {
+        // GIVEN
+        final var localeFieldTexts = isNull(localeFieldTextsMap) ? null : TranslationMatrix.of(localeFieldTextsMap);
+
+        // THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> translationValidationService.validateIfTranslationsInLocaleExist(localeFieldTextsMap, APPLICATION_LOCALE)
+        );
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> translationValidationService.validateIfTranslationsInLocaleExist(localeFieldTexts, APPLICATION_LOCALE)
+        );
+    }
+
+    private static Stream<Arguments> Should_ThrowInvalidRequestDataException_When_TranslationsInApplicationLocaleDoNotExist_Source() {
+        final var nullApplicationLocaleTexts = new HashMap<String, Map<String, String>>();
+        nullApplicationLocaleTexts.put(APPLICATION_LOCALE, null);
+        nullApplicationLocaleTexts.put("da", Map.of("required", "Det er vigtigt"));
+        return Stream.of(
+            Arguments.of((Object) null),
+            Arguments.of(Map.of()),
+            Arguments.of(Map.of("da", Map.of("required", "Det er vigtigt"))),
+            Arguments.of(nullApplicationLocaleTexts)
+        );
+    }
+
+    private static Stream<Arguments> Should_ThrowInvalidRequestDataException_When_TranslationsDoNotConformToSchema_Source() {
+        return Stream.of(
+            Arguments.of(Map.of("da", Map.of("required", "Det er vigtigt"))),
+            Arguments.of(Map.of("en", Map.of("optional", "It's less important"))),
+            Arguments.of(
+                Map.of(
+                    "en",
+                    Map.of("required", "It's important", "spanishInquisition", "Nobody expects The Spanish Inquisition")
+                )
+            ),
+            Arguments.of(Map.of("en", Map.of("required", "It's important"), "pl", Map.of("optional", "To jest mniej ważne"))),
+            Arguments.of(Map.of("en", Map.of("required", "It's important"), "pl", Map.of("unknown", "Nieznane")))
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.kwezal.bearinmind.translation.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import com.kwezal.bearinmind.translation.dto.TranslationIdentifierAndLocaleDto;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TranslationWriteBufferTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final TranslationWriteBuffer translationWriteBuffer = new TranslationWriteBuffer(
+        translationService,
+        100,
+        Duration.ofHours(1)
+    );
+
+    @BeforeEach
+    void setUp() {
+        translationWriteBuffer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        translationWriteBuffer.stop();
+    }
+
+    @Test
+    void Should_WriteOnlyLastText_When_SameTextIsWrittenRepeatedly() {
+        // GIVEN
+        final var first = translationWriteBuffer.write(1, "en", "Draft");
+        final var second = translationWriteBuffer.write(1, "en", "Final");
+        final var other = translationWriteBuffer.write(2, "en", "Other");
+
+        // WHEN
+        final var result = translationWriteBuffer.flush();
+
+        // THEN
+        assertEquals(2, result);
+        verify(translationService).upsertTranslations(Map.of(key(1, "en"), "Final", key(2, "en"), "Other"));
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertTrue(other.isDone());
+        assertEquals(0, translationWriteBuffer.size());
+    }
+
+    @Test
+    void Should_FailOnlyInvalidWrite_When_BatchFails() {
+        // GIVEN
+        final var exception = new ResourceNotFoundException(Object.class, Map.of());
+        doThrow(exception).when(translationService).upsertTranslations(argThat(localeTexts -> localeTexts.size() > 1));
+        doThrow(exception).when(translationService).upsertTranslations(Map.of(key(2, "en"), "Missing"));
+        final var valid = translationWriteBuffer.write(1, "en", "Text");
+        final var invalid = translationWriteBuffer.write(2, "en", "Missing");
+
+        // WHEN
+        translationWriteBuffer.flush();
+
+        // THEN
+        assertNull(valid.join());
+        assertThrows(CompletionException.class, invalid::join);
+        verify(translationService).upsertTranslations(Map.of(key(1, "en"), "Text"));
+    }
+
+    @Test
+    void Should_FlushBufferedWrites_When_BufferIsStopped() {
+        // GIVEN
+        final var future = translationWriteBuffer.write(1, "en", "Text");
+
+        // WHEN
+        translationWriteBuffer.stop();
+
+        // THEN
+        assertTrue(future.isDone());
+        verify(translationService).upsertTranslations(Map.of(key(1, "en"), "Text"));
+    }
+
+    private static TranslationIdentifierAndLocaleDto key(final int identifier, final String locale) {
+        return new TranslationIdentifierAndLocaleDto(identifier, locale);
+    }
+}
@@ -0,0 +1,61 @@
+package com.kwezal.bearinmind.translation.tenant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class TranslationTenancyTest {
+
+    private String tenant;
+    private final TranslationTenancy tenancy = new TranslationTenancy(
+        mock(DataSource.class),
+        () -> tenant,
+        "translations_",
+        "public"
+    );
+
+    @Test
+    void Should_ResolveTenantSchema_When_TenantIsResolved() {
+        // GIVEN
+        tenant = "university";
+
+        // THEN
+        assertEquals("translations_university", tenancy.currentSchema());
+        assertEquals("translations_university", tenancy.resolveCurrentTenantIdentifier());
+    }
+
+    @Test
+    void Should_ResolveDefaultSchema_When_ThereIsNoTenant() {
+        // GIVEN
+        tenant = null;
+
+        // THEN
+        assertEquals("public", tenancy.currentSchema());
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_TenantCannotBePartOfSchemaName() {
+        // GIVEN
+        tenant = "university\"; DROP SCHEMA public; --";
+
+        // THEN
+        assertThrows(IllegalArgumentException.class, tenancy::currentSchema);
+        assertThrows(IllegalArgumentException.class, () -> tenancy.schemaOf("University"));
+        assertThrows(IllegalArgumentException.class, () -> tenancy.schemaOf("u".repeat(64)));
+    }
+
+    @Test
+    void Should_UseGivenSchema_When_CalledAsTenant() {
+        // GIVEN
+        tenant = "university";
+
+        // WHEN
+        final var schema = tenancy.callAs("translations_school", tenancy::currentSchema);
+
+        // THEN
+        assertEquals("translations_school", schema);
+        assertEquals("translations_university", tenancy.currentSchema());
+    }
+}
@@ -0,0 +1,88 @@
+package com.kwezal.bearinmind.translation.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts JDBC statements created on connections of the data source, including statements that are not run
+ * as Hibernate queries, such as the ones run directly on a connection.
+ * It has to be registered as a bean, e.g. with {@link org.springframework.context.annotation.Import}.
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final AtomicLong statementCount = new AtomicLong();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+    }
+
+    /**
+     * Counts statements created while running a given action.
+     *
+     * @param action action
+     * @return number of statements
+     */
+    public long count(final Runnable action) {
+        final var countBefore = statementCount.get();
+        action.run();
+        return statementCount.get() - countBefore;
+    }
+
+    /**
+     * Asserts that a given action does not create more statements than a given budget.
+     *
+     * @param operation name of the action used in the error message
+     * @param budget    maximum number of statements
+     * @param action    action
+     */
+    public void assertWithinBudget(final String operation, final long budget, final Runnable action) {
+        final var count = count(action);
+        assertTrue(count <= budget, () -> operation + " created " + count + " statements, exceeding the budget of " + budget);
+    }
+
+    private class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(final DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        private Connection countingConnection(final Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, arguments) -> {
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        statementCount.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, arguments);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            );
+        }
+    }
+}
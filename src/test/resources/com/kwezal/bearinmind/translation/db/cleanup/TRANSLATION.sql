@@ -1,3 +1,4 @@
 DELETE FROM translations t WHERE t.id >= 1000000;
+DELETE FROM translation_deletions;
 SELECT setval('translations_id_seq', 1000000);
 SELECT setval('translations_identifier_seq', 1000000);
\ No newline at end of file